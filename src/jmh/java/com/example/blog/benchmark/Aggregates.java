@@ -0,0 +1,39 @@
+package com.example.blog.benchmark;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+
+/**
+ * Builds post aggregates of a given size for the benchmarks.
+ */
+final class Aggregates {
+
+    private Aggregates() {
+    }
+
+    static Post post(int categories, int comments) {
+        Category[] cats = new Category[categories];
+        for (int i = 0; i < categories; i++) {
+            cats[i] = new Category("Category " + i);
+        }
+        Post post = new Post("Benchmarking the post aggregate", "Lorem ipsum dolor sit amet. ".repeat(40),
+                new Author("author"), cats);
+        post.publishPost();
+        for (int i = 0; i < comments; i++) {
+            post.addComment(new Comment("Comment " + i, new Commenter("reader-" + i)));
+        }
+        return post;
+    }
+
+    static Post draft(int categories) {
+        Category[] cats = new Category[categories];
+        for (int i = 0; i < categories; i++) {
+            cats[i] = new Category("Category " + i);
+        }
+        return new Post("Draft", "Content", new Author("author"), cats);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.example.blog.benchmark;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tab-separated benchmark report: {@code benchmark, params, mode, score, error, unit},
+ * sorted by benchmark and params so two reports diff line by line.
+ */
+record BenchmarkReport(List<Line> lines) {
+
+    private static final String HEADER = "# benchmark\tparams\tmode\tscore\terror\tunit";
+
+    static BenchmarkReport of(Collection<RunResult> results) {
+        List<Line> lines = new ArrayList<>();
+        for (RunResult result : results) {
+            Result<?> primary = result.getPrimaryResult();
+            String params = result.getParams().getParamsKeys().stream()
+                    .map(key -> key + "=" + result.getParams().getParam(key))
+                    .collect(Collectors.joining(","));
+            String benchmark = result.getParams().getBenchmark();
+            lines.add(new Line(
+                    benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1),
+                    params.isEmpty() ? "-" : params,
+                    result.getParams().getMode().shortLabel(),
+                    primary.getScore(),
+                    Double.isNaN(primary.getScoreError()) ? 0 : primary.getScoreError(),
+                    primary.getScoreUnit()
+            ));
+        }
+        lines.sort(Comparator.comparing(Line::key));
+        return new BenchmarkReport(lines);
+    }
+
+    static BenchmarkReport read(Path file) throws IOException {
+        List<Line> lines = Files.readAllLines(file).stream()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .map(line -> line.split("\t"))
+                .map(f -> new Line(f[0], f[1], f[2], Double.parseDouble(f[3]), Double.parseDouble(f[4]), f[5]))
+                .toList();
+        return new BenchmarkReport(lines);
+    }
+
+    void write(Path file) throws IOException {
+        List<String> out = new ArrayList<>();
+        out.add(HEADER);
+        for (Line line : lines) {
+            out.add(String.join("\t", line.benchmark(), line.params(), line.mode(),
+                    format(line.score()), format(line.error()), line.unit()));
+        }
+        Files.write(file, out);
+    }
+
+    /**
+     * Renders the change of every benchmark present in both reports. A change is only
+     * called out when it exceeds the combined error margins of the two runs.
+     */
+    String compareTo(BenchmarkReport baseline) {
+        Map<String, Line> previous = baseline.lines().stream()
+                .collect(Collectors.toMap(Line::key, Function.identity(), (a, b) -> b, TreeMap::new));
+
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-50s %-20s %14s %14s %9s  %s%n",
+                "benchmark", "params", "baseline", "current", "change", "verdict"));
+        for (Line line : lines) {
+            Line before = previous.remove(line.key());
+            if (before == null) {
+                out.append(String.format(Locale.ROOT, "%-50s %-20s %14s %14s %9s  %s%n",
+                        line.benchmark(), line.params(), "-", format(line.score()), "-", "new"));
+                continue;
+            }
+            double change = (line.score() - before.score()) / before.score() * 100;
+            boolean significant = Math.abs(line.score() - before.score()) > line.error() + before.error();
+            // lower is better for time per operation, higher is better for throughput
+            boolean worse = "thrpt".equals(line.mode()) ? change < 0 : change > 0;
+            String verdict = !significant ? "~" : worse ? "REGRESSION" : "improvement";
+            out.append(String.format(Locale.ROOT, "%-50s %-20s %14s %14s %+8.1f%%  %s%n",
+                    line.benchmark(), line.params(), format(before.score()), format(line.score()), change, verdict));
+        }
+        previous.values().forEach(line -> out.append(String.format(Locale.ROOT, "%-50s %-20s %14s %14s %9s  %s%n",
+                line.benchmark(), line.params(), format(line.score()), "-", "-", "removed")));
+        return out.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    record Line(String benchmark, String params, String mode, double score, double error, String unit) {
+
+        String key() {
+            return benchmark + "\t" + params + "\t" + mode;
+        }
+
+    }
+
+}
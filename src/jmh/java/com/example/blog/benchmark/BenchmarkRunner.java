@@ -0,0 +1,54 @@
+package com.example.blog.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Runs the benchmarks of this package and writes two reports to {@code target/jmh}:
+ * JMH's own {@code results.json}, and {@code report.tsv}, one sorted line per benchmark
+ * and parameter set, meant to be kept per release and compared with plain diff tools.
+ * <p>
+ * Arguments are regular JMH command line options. When the {@code jmh.baseline} system
+ * property points to an earlier {@code report.tsv}, the run is compared against it.
+ */
+public class BenchmarkRunner {
+
+    private static final Path OUTPUT = Path.of("target", "jmh");
+
+    public static void main(String[] args) throws Exception {
+        Files.createDirectories(OUTPUT);
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + "\\..*Benchmark");
+        }
+        Options options = builder
+                .resultFormat(ResultFormatType.JSON)
+                .result(OUTPUT.resolve("results.json").toString())
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        BenchmarkReport report = BenchmarkReport.of(results);
+        Path reportFile = OUTPUT.resolve("report.tsv");
+        report.write(reportFile);
+        System.out.println("Benchmark report written to " + reportFile.toAbsolutePath());
+
+        String baseline = System.getProperty("jmh.baseline", "");
+        if (!baseline.isBlank()) {
+            System.out.println();
+            System.out.println(report.compareTo(BenchmarkReport.read(Path.of(baseline))));
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.example.blog.benchmark;
+
+import com.example.blog.domain.valueobject.IdGenerator;
+import com.example.blog.domain.valueobject.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into a table keyed by a uuid primary key, with random (v4) against
+ * time-ordered (v7) keys. The table keeps growing across iterations so that the index
+ * outgrows shared buffers and random keys start paying for page splits and reads.
+ * <p>
+ * Needs a running Postgres: {@code -Dbench.jdbc.url}, {@code -Dbench.jdbc.user} and
+ * {@code -Dbench.jdbc.password} default to the datasource in application.properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"v4", "v7"})
+    private String generator;
+
+    private IdGenerator ids;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = generator.equals("v7") ? new UuidV7Generator() : UUID::randomUUID;
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/blog"),
+                System.getProperty("bench.jdbc.user", "postgres"),
+                System.getProperty("bench.jdbc.password", "secret"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_id_insert");
+            statement.execute("create unlogged table bench_id_insert (id uuid primary key, payload text not null)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("insert into bench_id_insert (id, payload) values (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists bench_id_insert");
+        }
+        connection.close();
+    }
+
+    /**
+     * One committed batch of {@value #BATCH_SIZE} rows.
+     */
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, ids.generate());
+            insert.setString(2, "payload");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+}
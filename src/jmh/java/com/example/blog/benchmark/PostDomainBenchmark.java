@@ -0,0 +1,73 @@
+package com.example.blog.benchmark;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.valueobject.CommentId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostDomainBenchmark {
+
+    /**
+     * A draft with {@code size} categories and a published post with {@code size} comments.
+     */
+    @State(Scope.Thread)
+    public static class Aggregate {
+
+        @Param({"10", "1000"})
+        private int size;
+
+        private Post draft;
+        private Post published;
+        private Category extraCategory;
+        private CommentId lastCommentId;
+
+        @Setup
+        public void setUp() {
+            draft = Aggregates.draft(size);
+            published = Aggregates.post(1, size);
+            extraCategory = new Category("Extra");
+            lastCommentId = published.getComments().get(size - 1).getId();
+        }
+
+    }
+
+    @Benchmark
+    public String generateSlug() {
+        return Post.generateSlug("Ten Tips for Faster Spring Boot Startup, Part 2: JPA & Hibernate!");
+    }
+
+    /**
+     * Adds a category to the draft, then removes it again so that the aggregate does
+     * not grow across invocations.
+     */
+    @Benchmark
+    public Post addAndRemoveCategory(Aggregate aggregate) {
+        aggregate.draft.addCategory(aggregate.extraCategory);
+        aggregate.draft.removeCategory(aggregate.extraCategory.getId());
+        return aggregate.draft;
+    }
+
+    @Benchmark
+    public Comment getLastComment(Aggregate aggregate) {
+        return aggregate.published.getComment(aggregate.lastCommentId);
+    }
+
+}
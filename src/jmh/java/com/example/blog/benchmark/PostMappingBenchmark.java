@@ -0,0 +1,98 @@
+package com.example.blog.benchmark;
+
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.domain.Post;
+import com.example.blog.infrastructure.jpa.entity.CommentEntity;
+import com.example.blog.infrastructure.jpa.entity.PostEntity;
+import com.example.blog.utils.Page;
+import com.example.blog.utils.mapper.CategoryMapperImpl;
+import com.example.blog.utils.mapper.CommentMapperImpl;
+import com.example.blog.utils.mapper.PostMapper;
+import com.example.blog.utils.mapper.PostMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Number of comments per post; categories are kept at five.
+     */
+    @Param({"10", "1000"})
+    private int comments;
+
+    private AnnotationConfigApplicationContext context;
+    private PostMapper postMapper;
+    private Post post;
+    private PostEntity entity;
+    private List<CommentEntity> commentEntities;
+    private Page<Post> page;
+
+    @Setup
+    public void setUp() {
+        // the generated mappers use field injection, so let Spring wire them
+        context = new AnnotationConfigApplicationContext(
+                PostMapperImpl.class, CategoryMapperImpl.class, CommentMapperImpl.class);
+        postMapper = context.getBean(PostMapper.class);
+
+        post = Aggregates.post(5, comments);
+        entity = PostEntity.fromDomain(post);
+        commentEntities = post.getComments().stream()
+                .map(comment -> CommentEntity.fromDomain(post.getId().id(), comment))
+                .toList();
+
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            posts.add(Aggregates.post(5, comments));
+        }
+        page = Page.of(posts, 0, PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostEntity entityFromDomain() {
+        return PostEntity.fromDomain(post);
+    }
+
+    @Benchmark
+    public Post entityToDomain() {
+        return entity.toDomain(commentEntities, commentEntities.size());
+    }
+
+    @Benchmark
+    public PostDTO mapperToDto() {
+        return postMapper.toDto(post);
+    }
+
+    @Benchmark
+    public Page<PostDTO> pageMapToDto() {
+        return page.map(postMapper::toDto);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.example.blog.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the request execution modes against Postgres: a burst of requests on
+ * Tomcat's default 200 platform threads, against a virtual thread per request behind
+ * the same permits as {@code RequestPermitFilter}. Both share a 10 connection Hikari pool.
+ * <p>
+ * Each request first waits {@code outsideMillis} without a connection (reading the body,
+ * serializing the response, calling out), then holds a connection for a
+ * {@code pg_sleep} of {@code transactionMillis}. The platform pool caps the requests in
+ * flight at 200 whatever the split; virtual threads are only capped by the permits, and
+ * both are capped by the pool once transactions dominate.
+ * <p>
+ * The virtual mode needs a Java 21 runtime ({@code -Pjava21}); on Java 17 it fails at
+ * setup. Needs a running Postgres: {@code -Dbench.jdbc.url}, {@code -Dbench.jdbc.user} and
+ * {@code -Dbench.jdbc.password} default to the datasource in application.properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int POOL_SIZE = 10;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int permits;
+
+    @Param({"20"})
+    private int outsideMillis;
+
+    @Param({"2"})
+    private int transactionMillis;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+    private Semaphore requestPermits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/blog"));
+        config.setUsername(System.getProperty("bench.jdbc.user", "postgres"));
+        config.setPassword(System.getProperty("bench.jdbc.password", "secret"));
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(TimeUnit.SECONDS.toMillis(30));
+        dataSource = new HikariDataSource(config);
+
+        if (threads.equals("virtual")) {
+            // looked up reflectively so the benchmarks still compile on Java 17
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            requestPermits = new Semaphore(permits, true);
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    /**
+     * One burst of {@value #REQUESTS} requests; the score is requests per second.
+     */
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void burst() throws InterruptedException, ExecutionException {
+        List<Future<?>> requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(executor.submit(this::handleWithPermit));
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+    }
+
+    private Void handleWithPermit() throws InterruptedException, SQLException {
+        if (requestPermits == null) {
+            return handle();
+        }
+        requestPermits.acquire();
+        try {
+            return handle();
+        } finally {
+            requestPermits.release();
+        }
+    }
+
+    private Void handle() throws InterruptedException, SQLException {
+        Thread.sleep(outsideMillis);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select pg_sleep(?)")) {
+            statement.setDouble(1, transactionMillis / 1000.0);
+            statement.execute();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.blog.benchmark;
+
+import com.example.blog.domain.valueobject.Slugs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Slugs#normalize} against the regex chain it replaced in {@code Post.generateSlug}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SlugNormalizationBenchmark {
+
+    @Param({
+            "Ten Tips for Faster Spring Boot Startup, Part 2: JPA & Hibernate!",
+            "Mười mẹo tăng tốc Spring Boot, phần 2",
+            "Десять советов по Spring Boot, часть 2"
+    })
+    private String title;
+
+    @Benchmark
+    public String normalize() {
+        return Slugs.normalize(title);
+    }
+
+    @Benchmark
+    public String regex() {
+        return title.toLowerCase()
+                .replaceAll("[^a-z0-9]+", "-")
+                .replaceAll("-+", "-")
+                .trim();
+    }
+
+}
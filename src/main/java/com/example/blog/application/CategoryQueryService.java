@@ -18,4 +18,11 @@ public class CategoryQueryService {
                 .stream().map(categoryMapper::toDto).toList();
     }
 
+    /**
+     * Changes whenever the category list does; suitable as an HTTP validator.
+     */
+    public long version() {
+        return categoryRepository.version();
+    }
+
 }
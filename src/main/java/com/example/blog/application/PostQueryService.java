@@ -1,30 +1,133 @@
 package com.example.blog.application;
 
+import com.example.blog.application.exception.InvalidCursorException;
+import com.example.blog.application.query.CommentQueryRepository;
+import com.example.blog.application.query.PendingCommentDTO;
 import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostExportDTO;
+import com.example.blog.application.query.PostQueryRepository;
+import com.example.blog.application.query.PostSearchResultDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.application.query.PostVersionDTO;
+import com.example.blog.application.query.PublishedPostDTO;
 import com.example.blog.utils.mapper.PostMapper;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
 import com.example.blog.utils.Page;
-import com.example.blog.domain.Post;
 import com.example.blog.domain.PostRepository;
-import com.example.blog.domain.valueobject.PostId;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 public class PostQueryService {
 
     private final PostRepository postRepository;
     private final PostMapper postMapper;
+    private final PostQueryRepository postQueryRepository;
+    private final CommentQueryRepository commentQueryRepository;
 
+    /**
+     * The post with its comment count and first page of comments; see {@link #findComments}.
+     */
     public PostDTO findById(UUID uuid) {
-        PostId postId = PostId.fromUUID(uuid);
-        Post post = postRepository.findById(postId);
+        return postQueryRepository.findById(uuid);
+    }
+
+    /**
+     * The published post with this slug, for readers; unpublished and deleted posts are not found.
+     */
+    public PublishedPostDTO findPublishedBySlug(String slug) {
+        return postMapper.toPublishedDto(postRepository.findPublishedBySlug(slug));
+    }
+
+    /**
+     * Validators of {@link #findById}, for conditional GETs; cheaper than reading the post.
+     */
+    public PostVersionDTO findVersion(UUID uuid) {
+        return postQueryRepository.findVersion(uuid);
+    }
+
+    /**
+     * Validators of {@link #findPublishedBySlug}, for conditional GETs.
+     */
+    public PostVersionDTO findPublishedVersion(String slug) {
+        return postQueryRepository.findPublishedVersion(slug);
+    }
 
-        return postMapper.toDto(post);
+    /**
+     * Validators of the pages of {@link #findAll(int, int)} and {@link #findAllSummaries}, for conditional GETs.
+     */
+    public PostVersionDTO findPageVersion(int page, int size) {
+        return postQueryRepository.findPageVersion(page, size);
     }
 
     public Page<PostDTO> findAll(int page, int size) {
         return postRepository.findAll(page, size).map(postMapper::toDto);
     }
 
+    /**
+     * Keyset paging: {@code cursor} is the {@code nextCursor} of the previous page,
+     * or blank for the first page.
+     */
+    public CursorPage<PostDTO> findAll(String cursor, int size) {
+        return postRepository.findAll(toCursor(cursor), size).map(postMapper::toDto);
+    }
+
+    /**
+     * Keyset paging over the comments of a post, oldest first: {@code cursor} is the
+     * {@code commentsNextCursor} of the post or the {@code nextCursor} of the previous page.
+     */
+    public CursorPage<PostDTO.CommentDTO> findComments(UUID postId, String cursor, int size) {
+        return commentQueryRepository.findByPostId(postId, toCursor(cursor), size);
+    }
+
+    /**
+     * Keyset paging over the approved comments of the published post with this slug, like
+     * {@link #findComments}; the first cursor is the {@code commentsNextCursor} of the post.
+     */
+    public CursorPage<PostDTO.CommentDTO> findPublishedComments(String slug, String cursor, int size) {
+        UUID postId = postQueryRepository.findPublishedVersion(slug).id();
+        return commentQueryRepository.findApprovedByPostId(postId, toCursor(cursor), size);
+    }
+
+    /**
+     * Keyset paging over the moderation queue: unapproved comments of all published
+     * posts, oldest first.
+     */
+    public CursorPage<PendingCommentDTO> findPendingComments(String cursor, int size) {
+        return commentQueryRepository.findPending(toCursor(cursor), size);
+    }
+
+    /**
+     * Listing mode: title, slug, author, status and counts only, without
+     * loading content, comments or the aggregates themselves.
+     */
+    public Page<PostSummaryDTO> findAllSummaries(int page, int size) {
+        return postQueryRepository.findAllSummaries(page, size);
+    }
+
+    public Page<PostSearchResultDTO> search(String keyword, boolean deleted, int page, int size) {
+        return postQueryRepository.search(keyword, deleted, page, size);
+    }
+
+    /**
+     * Streams every live post to {@code consumer}; memory use does not grow with the number of posts.
+     */
+    public void exportAll(Consumer<PostExportDTO> consumer) {
+        postQueryRepository.exportAll(consumer);
+    }
+
+    private Cursor toCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
 }
@@ -1,17 +1,30 @@
 package com.example.blog.application;
 
+import com.example.blog.application.command.CommentCreateCommand;
+import com.example.blog.application.command.CommentModerationResult;
 import com.example.blog.application.command.PostCreateCommand;
 import com.example.blog.application.command.PostEditCommand;
+import com.example.blog.application.command.PostImportResult;
 import com.example.blog.application.exception.CategoryNotFoundException;
+import com.example.blog.application.exception.CommentNotFoundException;
 
 import com.example.blog.domain.*;
+import com.example.blog.domain.exception.CategoryAlreadyExistsException;
+import com.example.blog.domain.exception.PostNotPublishedException;
 import com.example.blog.domain.valueobject.*;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -19,6 +32,7 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
+    private final CommentRepository commentRepository;
 
     public void createPost(PostCreateCommand command) {
         // Extract categories in PostCreateCommand to a list of CategoryId
@@ -41,6 +55,68 @@ public class PostService {
         postRepository.save(post);
     }
 
+    /**
+     * Creates a batch of posts with a single category lookup and a single bulk insert.
+     * A command that fails validation, references unknown categories or collides with
+     * an existing slug is reported in the result and does not affect the others.
+     */
+    public PostImportResult importPosts(List<PostCreateCommand> commands) {
+        List<CategoryId> categoryIds = commands.stream()
+                .map(PostCreateCommand::categoryIds)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .map(CategoryId::fromUUID)
+                .toList();
+        Map<CategoryId, Category> categories = categoryIds.isEmpty()
+                ? Map.of()
+                : categoryRepository.findCategoryByIds(categoryIds).stream()
+                        .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        Map<Integer, String> errors = new TreeMap<>();
+        List<Post> posts = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            PostCreateCommand command = commands.get(i);
+            List<CategoryId> postCategoryIds = command.categoryIds() == null
+                    ? List.of()
+                    : toCategoryId(command.categoryIds().stream().distinct().toList());
+
+            List<CategoryId> missing = postCategoryIds.stream()
+                    .filter(id -> !categories.containsKey(id))
+                    .toList();
+            if (!missing.isEmpty()) {
+                errors.put(i, new CategoryNotFoundException(missing).getMessage());
+                continue;
+            }
+
+            try {
+                posts.add(new Post(
+                        command.title(),
+                        command.content(),
+                        new Author(command.authorId()),
+                        postCategoryIds.stream().map(categories::get).toArray(Category[]::new)
+                ));
+                positions.add(i);
+            } catch (IllegalArgumentException | CategoryAlreadyExistsException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+
+        Set<PostId> inserted = posts.isEmpty() ? Set.of() : postRepository.insertAll(posts);
+
+        List<UUID> importedIds = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            Post post = posts.get(i);
+            if (inserted.contains(post.getId())) {
+                importedIds.add(post.getId().id());
+            } else {
+                errors.put(positions.get(i), String.format("Slug '%s' is already taken.", post.getSlug()));
+            }
+        }
+        return new PostImportResult(importedIds, errors);
+    }
+
     public void editPost(UUID id, PostEditCommand command) {
         // Find
         Post post = postRepository.findById(PostId.fromUUID(id));
@@ -74,6 +150,89 @@ public class PostService {
         postRepository.save(post);
     }
 
+    /**
+     * Queues a comment for a published post without loading the post; the comment is
+     * written shortly after this returns.
+     */
+    public UUID submitComment(UUID postId, CommentCreateCommand command) {
+        PostId id = PostId.fromUUID(postId);
+        if (!postRepository.isPublished(id)) {
+            throw new PostNotPublishedException(id);
+        }
+
+        Comment comment = new Comment(command.content(), new Commenter(command.commenterId()));
+        commentRepository.append(id, comment);
+        return comment.getId().id();
+    }
+
+    public void approveComment(UUID postId, UUID commentId) {
+        // Find the post with just that comment loaded
+        PostId id = PostId.fromUUID(postId);
+        CommentId cId = CommentId.fromUUID(commentId);
+        Post post = postRepository.findById(id, cId);
+        if (post.getComment(cId) == null) {
+            throw new CommentNotFoundException(id, cId);
+        }
+
+        post.approveComment(cId);
+        postRepository.save(post);
+    }
+
+    public void removeComment(UUID postId, UUID commentId) {
+        // The comment may lie past the first page, so load it explicitly
+        PostId id = PostId.fromUUID(postId);
+        CommentId cId = CommentId.fromUUID(commentId);
+        Post post = postRepository.findById(id, cId);
+        if (post.getComment(cId) == null) {
+            throw new CommentNotFoundException(id, cId);
+        }
+
+        post.removeComment(cId);
+        postRepository.save(post);
+    }
+
+    /**
+     * Approves pending comments in bulk without loading their posts.
+     */
+    public CommentModerationResult approveComments(List<UUID> commentIds) {
+        return moderate(commentIds, commentRepository::approveAll);
+    }
+
+    /**
+     * Removes pending comments in bulk without loading their posts.
+     */
+    public CommentModerationResult rejectComments(List<UUID> commentIds) {
+        return moderate(commentIds, commentRepository::rejectAll);
+    }
+
+    private CommentModerationResult moderate(List<UUID> commentIds,
+                                             Function<Set<CommentId>, Set<CommentId>> action) {
+        Set<CommentId> requested = commentIds.stream()
+                .map(CommentId::fromUUID)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<CommentId> moderated = action.apply(requested);
+
+        // only explain the comments that were left unchanged
+        Set<CommentId> skipped = new LinkedHashSet<>(requested);
+        skipped.removeAll(moderated);
+        Set<CommentId> onUnpublishedPosts = skipped.isEmpty()
+                ? Set.of()
+                : commentRepository.findOnUnpublishedPosts(skipped);
+
+        List<UUID> moderatedIds = new ArrayList<>();
+        Map<UUID, String> errors = new LinkedHashMap<>();
+        for (CommentId id : requested) {
+            if (moderated.contains(id)) {
+                moderatedIds.add(id.id());
+            } else if (onUnpublishedPosts.contains(id)) {
+                errors.put(id.id(), String.format("Post of comment '%s' is not published.", id.id()));
+            } else {
+                errors.put(id.id(), String.format("Comment '%s' not found or already moderated.", id.id()));
+            }
+        }
+        return new CommentModerationResult(moderatedIds, errors);
+    }
+
     public void deletePost(UUID id) {
         Post post = postRepository.findById(PostId.fromUUID(id));
         post.softDelete();
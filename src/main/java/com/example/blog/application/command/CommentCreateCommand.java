@@ -0,0 +1,8 @@
+package com.example.blog.application.command;
+
+public record CommentCreateCommand(
+        String content,
+        String commenterId
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.example.blog.application.command;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of approving or rejecting a batch of comments.
+ *
+ * @param moderatedIds ids of the comments that were approved or rejected
+ * @param errors       reason per comment that was left unchanged, keyed by its id
+ */
+public record CommentModerationResult(
+        List<UUID> moderatedIds,
+        Map<UUID, String> errors
+) {
+
+}
@@ -0,0 +1,18 @@
+package com.example.blog.application.command;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Outcome of importing a batch of posts.
+ *
+ * @param importedIds ids of the posts that were created
+ * @param errors      reason per rejected command, keyed by its position in the batch
+ */
+public record PostImportResult(
+        List<UUID> importedIds,
+        Map<Integer, String> errors
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.example.blog.application.exception;
+
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.PostId;
+
+public class CommentNotFoundException extends RuntimeException {
+
+    public CommentNotFoundException(PostId postId, CommentId commentId) {
+        super(String.format("Comment with ID '%s' not found on post '%s'.", commentId.id(), postId.id()));
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.blog.application.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Cursor '%s' is not valid.", cursor));
+    }
+
+}
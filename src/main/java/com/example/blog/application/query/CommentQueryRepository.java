@@ -0,0 +1,30 @@
+package com.example.blog.application.query;
+
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
+
+import java.util.UUID;
+
+/**
+ * Read side of comments, paged independently of the post they belong to.
+ */
+public interface CommentQueryRepository {
+
+    /**
+     * Returns the comments of a post ordered by {@code (createdAt, id)} that come after
+     * {@code after}, or the first page when {@code after} is {@code null}.
+     */
+    CursorPage<PostDTO.CommentDTO> findByPostId(UUID postId, Cursor after, int size);
+
+    /**
+     * Like {@link #findByPostId}, with approved comments only.
+     */
+    CursorPage<PostDTO.CommentDTO> findApprovedByPostId(UUID postId, Cursor after, int size);
+
+    /**
+     * Returns the unapproved comments of live, published posts, across all posts,
+     * ordered by {@code (createdAt, id)} like {@link #findByPostId}.
+     */
+    CursorPage<PendingCommentDTO> findPending(Cursor after, int size);
+
+}
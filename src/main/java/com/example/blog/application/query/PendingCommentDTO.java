@@ -0,0 +1,14 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PendingCommentDTO(
+        UUID id,
+        UUID postId,
+        String content,
+        String commenter,
+        LocalDateTime createdAt
+) {
+
+}
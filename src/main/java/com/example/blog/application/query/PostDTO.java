@@ -10,7 +10,10 @@ public record PostDTO(
         String content,
         String authorId,
         List<CategoryDTO> categories,
+        // the first page of comments; the next ones are paged separately from commentsNextCursor
         List<CommentDTO> comments,
+        long commentCount,
+        String commentsNextCursor,
         String slug,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
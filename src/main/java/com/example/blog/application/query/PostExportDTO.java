@@ -0,0 +1,19 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record PostExportDTO(
+        UUID id,
+        String title,
+        String slug,
+        String content,
+        String authorId,
+        List<UUID> categoryIds,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime publishedAt
+) {
+
+}
@@ -0,0 +1,51 @@
+package com.example.blog.application.query;
+
+import com.example.blog.utils.Page;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read side of posts: returns view models straight from storage, without
+ * reconstituting {@link com.example.blog.domain.Post} aggregates.
+ */
+public interface PostQueryRepository {
+
+    Page<PostSummaryDTO> findAllSummaries(int page, int size);
+
+    /**
+     * The live post with its comment count and first page of comments. Fails like
+     * {@link com.example.blog.domain.PostRepository#findById} when there is no live post with this id.
+     */
+    PostDTO findById(UUID id);
+
+    /**
+     * The validators of {@link #findById}; fails the same way when there is no live post with this id.
+     */
+    PostVersionDTO findVersion(UUID id);
+
+    /**
+     * The validators of the published post with this slug; fails like
+     * {@link com.example.blog.domain.PostRepository#findPublishedBySlug} when there is none.
+     */
+    PostVersionDTO findPublishedVersion(String slug);
+
+    /**
+     * The validators of a page of live posts, oldest first: the page changes when one of its
+     * posts does, when posts move in or out of it and when the total changes.
+     */
+    PostVersionDTO findPageVersion(int page, int size);
+
+    /**
+     * Full-text search over title and content, best match first. Searches the
+     * soft-deleted posts instead of the live ones when {@code deleted} is set.
+     */
+    Page<PostSearchResultDTO> search(String keyword, boolean deleted, int page, int size);
+
+    /**
+     * Passes every live post to {@code consumer}, oldest first, reading them with a
+     * single forward-only scan instead of materializing them.
+     */
+    void exportAll(Consumer<PostExportDTO> consumer);
+
+}
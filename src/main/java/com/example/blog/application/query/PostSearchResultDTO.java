@@ -0,0 +1,19 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostSearchResultDTO(
+        UUID id,
+        String title,
+        String slug,
+        String authorId,
+        float rank,
+        String titleHighlight,
+        String snippet,
+        LocalDateTime createdAt,
+        Boolean isPublished,
+        Boolean isDeleted
+) {
+
+}
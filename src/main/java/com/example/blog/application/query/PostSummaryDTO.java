@@ -0,0 +1,22 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record PostSummaryDTO(
+        UUID id,
+        String title,
+        String slug,
+        String authorId,
+        List<String> categories,
+        long commentCount,
+        long approvedCommentCount,
+        LocalDateTime lastCommentAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Boolean isPublished,
+        Boolean isDeleted
+) {
+
+}
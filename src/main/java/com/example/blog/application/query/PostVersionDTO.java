@@ -0,0 +1,17 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Validators of a post or a page of posts, read without loading them: {@code tag} changes
+ * whenever anything in the representation does, {@code modifiedAt} is the time of the
+ * latest change. {@code id} is the post's, {@code null} for a page.
+ */
+public record PostVersionDTO(
+        UUID id,
+        String tag,
+        LocalDateTime modifiedAt
+) {
+
+}
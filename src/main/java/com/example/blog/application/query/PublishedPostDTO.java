@@ -0,0 +1,25 @@
+package com.example.blog.application.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A post as shown to readers: published, with its first page of approved comments and
+ * nothing about moderation.
+ */
+public record PublishedPostDTO(
+        UUID id,
+        String title,
+        String slug,
+        String content,
+        String authorId,
+        List<PostDTO.CategoryDTO> categories,
+        List<PostDTO.CommentDTO> comments,
+        // the next approved comments are paged from /posts/{slug}/comments
+        String commentsNextCursor,
+        LocalDateTime publishedAt,
+        LocalDateTime updatedAt
+) {
+
+}
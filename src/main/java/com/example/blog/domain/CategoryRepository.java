@@ -16,5 +16,11 @@ public interface CategoryRepository {
 
     List<Category> findAll();
 
+    /**
+     * Identifies the current set of categories; it changes whenever a category is
+     * added, renamed or removed.
+     */
+    long version();
+
     void delete(Category category);
 }
@@ -0,0 +1,41 @@
+package com.example.blog.domain;
+
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.PostId;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Write side for comments that bypasses the {@link Post} aggregate: comments are appended
+ * and moderated without loading or re-saving their post. Like the aggregate, it only
+ * changes comments of live, published posts.
+ */
+public interface CommentRepository {
+
+    /**
+     * Accepts a new comment for {@code postId}. The comment may be written asynchronously,
+     * so it is not necessarily visible to reads when this returns.
+     */
+    void append(PostId postId, Comment comment);
+
+    /**
+     * Approves those of the given comments that are still pending.
+     *
+     * @return the ids of the comments that were approved
+     */
+    Set<CommentId> approveAll(Collection<CommentId> ids);
+
+    /**
+     * Removes those of the given comments that are still pending.
+     *
+     * @return the ids of the comments that were removed
+     */
+    Set<CommentId> rejectAll(Collection<CommentId> ids);
+
+    /**
+     * Those of the given comments whose post is unpublished or deleted.
+     */
+    Set<CommentId> findOnUnpublishedPosts(Collection<CommentId> ids);
+
+}
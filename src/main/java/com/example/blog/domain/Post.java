@@ -1,16 +1,25 @@
 package com.example.blog.domain;
 
+import com.example.blog.domain.event.PostEvent;
 import com.example.blog.domain.exception.*;
 import com.example.blog.domain.valueobject.Author;
 import com.example.blog.domain.valueobject.CategoryId;
 import com.example.blog.domain.valueobject.CommentId;
 import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.domain.valueobject.Slugs;
 import lombok.Getter;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
+/**
+ * Post aggregate. Comments can outgrow memory, so a post only holds the comments it was
+ * loaded with (a bounded window chosen by the repository) plus those added since;
+ * {@link #getCommentCount()} tracks the total.
+ * <p>
+ * State changes are recorded as {@link PostEvent}s, for the repository to store with them.
+ */
 @Getter
 public class Post {
     private final PostId id;
@@ -19,6 +28,9 @@ public class Post {
     private final Author author;
     private final List<Category> categories = new ArrayList<>();
     private final List<Comment> comments = new ArrayList<>();
+    private long commentCount;
+    private final List<CommentId> removedCommentIds = new ArrayList<>();
+    private final List<PostEvent> events = new ArrayList<>();
     private final LocalDateTime createdAt;
     private String slug;
     private LocalDateTime publishedAt;
@@ -26,7 +38,7 @@ public class Post {
     private LocalDateTime deletedAt;
 
     private Post(PostId id, String title, String slug, String content, Author author,
-          List<Category> cats, List<Comment> comments,
+          List<Category> cats, List<Comment> comments, long commentCount,
           LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime publishedAt, LocalDateTime deletedAt) {
         this.id = id;
         this.title = title;
@@ -35,6 +47,7 @@ public class Post {
         this.author = author;
         this.categories.addAll(Objects.requireNonNullElseGet(cats, ArrayList::new));
         this.comments.addAll(Objects.requireNonNullElseGet(comments, ArrayList::new));
+        this.commentCount = Math.max(commentCount, this.comments.size());
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.publishedAt = publishedAt;
@@ -58,12 +71,25 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
         this.publishedAt = null;
         this.deletedAt = null;
+        events.add(PostEvent.of(PostEvent.Type.POST_CREATED, id));
     }
 
     public static Post reconstitute(PostId id, String title, String slug, String content, Author author,
                                     List<Category> cats, List<Comment> comments,
                                     LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime publishedAt, LocalDateTime deletedAt) {
-        return new Post(id, title, slug, content, author, cats, comments, createdAt, updatedAt, publishedAt, deletedAt);
+        return reconstitute(id, title, slug, content, author, cats, comments, 0,
+                createdAt, updatedAt, publishedAt, deletedAt);
+    }
+
+    /**
+     * @param comments     the loaded comments, possibly only some of them
+     * @param commentCount the total number of comments of the post
+     */
+    public static Post reconstitute(PostId id, String title, String slug, String content, Author author,
+                                    List<Category> cats, List<Comment> comments, long commentCount,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime publishedAt, LocalDateTime deletedAt) {
+        return new Post(id, title, slug, content, author, cats, comments, commentCount,
+                createdAt, updatedAt, publishedAt, deletedAt);
     }
 
     public Post updatePost(String title, String content) {
@@ -82,6 +108,7 @@ public class Post {
         this.content = content;
         this.slug = generateSlug(this.title);
         this.updatedAt = LocalDateTime.now();
+        events.add(PostEvent.of(PostEvent.Type.POST_UPDATED, id));
         return this;
     }
 
@@ -115,9 +142,13 @@ public class Post {
             throw new PostAlreadyDeletedException(id);
         }
         this.publishedAt = LocalDateTime.now();
+        events.add(PostEvent.of(PostEvent.Type.POST_PUBLISHED, id));
     }
 
     public void unPublishPost() {
+        if (isPublished()) {
+            events.add(PostEvent.of(PostEvent.Type.POST_UNPUBLISHED, id));
+        }
         this.publishedAt = null;
     }
 
@@ -128,6 +159,7 @@ public class Post {
 
         deletedAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        events.add(PostEvent.of(PostEvent.Type.POST_DELETED, id));
     }
 
     public void addComment(Comment comment) {
@@ -137,8 +169,14 @@ public class Post {
 
         Assert.notNull(comment, "comment must not be null");
         comments.add(comment);
+        commentCount++;
+        events.add(PostEvent.of(PostEvent.Type.COMMENT_ADDED, id, comment.getId()));
     }
 
+    /**
+     * Removes a loaded comment; a comment that is not loaded is left alone, so load it
+     * with {@code PostRepository.findById(PostId, CommentId)} first.
+     */
     public void removeComment(CommentId commentId) {
         if (!isPublished()) {
             throw new PostNotPublishedException(id);
@@ -147,6 +185,9 @@ public class Post {
         Comment commentToRemove = getComment(commentId);
         if (commentToRemove != null) {
             comments.remove(commentToRemove);
+            removedCommentIds.add(commentId);
+            commentCount--;
+            events.add(PostEvent.of(PostEvent.Type.COMMENT_REMOVED, id, commentId));
         }
     }
 
@@ -155,8 +196,10 @@ public class Post {
             throw new PostNotPublishedException(id);
         }
         Comment comment = getComment(commentId);
-        if (comment != null)
+        if (comment != null) {
             comment.approve();
+            events.add(PostEvent.of(PostEvent.Type.COMMENT_APPROVED, id, commentId));
+        }
     }
 
     public void cancelApprovalComment(CommentId commentId) {
@@ -165,8 +208,10 @@ public class Post {
         }
 
         Comment comment = getComment(commentId);
-        if (comment != null)
+        if (comment != null) {
             comment.cancelApproval();
+            events.add(PostEvent.of(PostEvent.Type.COMMENT_APPROVAL_CANCELLED, id, commentId));
+        }
     }
 
     /*
@@ -185,6 +230,9 @@ public class Post {
         return categories.stream().map(Category::getId).toList();
     }
 
+    /**
+     * Looks among the loaded comments only.
+     */
     public Comment getComment(CommentId commentId) {
         Assert.notNull(commentId, "commentId must not be null");
         return this.comments.stream()
@@ -193,10 +241,34 @@ public class Post {
                 .orElse(null);
     }
 
+    /**
+     * The loaded comments, not necessarily all of them; see {@link #getCommentCount()}.
+     */
     public List<Comment> getComments() {
         return Collections.unmodifiableList(comments);
     }
 
+    /**
+     * Comments removed from this instance, for the repository to delete.
+     */
+    public List<CommentId> getRemovedCommentIds() {
+        return Collections.unmodifiableList(removedCommentIds);
+    }
+
+    /**
+     * Events raised on this instance and not stored yet, oldest first.
+     */
+    public List<PostEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Called by the repository once the events are stored.
+     */
+    public void clearEvents() {
+        events.clear();
+    }
+
     public List<Category> getCategories() {
         return Collections.unmodifiableList(categories);
     }
@@ -213,10 +285,16 @@ public class Post {
         return !isPublished();
     }
 
+    /**
+     * Called by the repository when the slug generated from the title is taken by another
+     * post, with a free variant of it.
+     */
+    public void assignSlug(String slug) {
+        Assert.hasText(slug, "slug must not be empty");
+        this.slug = slug;
+    }
+
     public static String generateSlug(String title) {
-        return title.toLowerCase()
-                .replaceAll("[^a-z0-9]+", "-")
-                .replaceAll("-+", "-")
-                .trim();
+        return Slugs.normalize(title);
     }
 }
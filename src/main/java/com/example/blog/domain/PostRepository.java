@@ -1,19 +1,61 @@
 package com.example.blog.domain;
 
 import com.example.blog.domain.valueobject.CategoryId;
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
 import com.example.blog.utils.Page;
 import com.example.blog.domain.valueobject.PostId;
 
+import java.util.List;
+import java.util.Set;
+
 public interface PostRepository {
 
+    /**
+     * Loads the post with its comment count and first page of comments, oldest first.
+     */
     Post findById(PostId id);
 
+    /**
+     * Like {@link #findById(PostId)}, and also loads {@code commentId} if it belongs to the
+     * post, so that it can be changed without loading every comment.
+     */
+    Post findById(PostId id, CommentId commentId);
+
+    /**
+     * Loads the post with this slug if it is published and not deleted, with its first
+     * page of approved comments only, oldest first, and the number of approved comments.
+     */
+    Post findPublishedBySlug(String slug);
+
     void save(Post post);
 
+    /**
+     * Whether the post exists, is not deleted and is published, without loading it.
+     * May answer from a cache that lags behind writes made by other instances.
+     */
+    boolean isPublished(PostId id);
+
+    /**
+     * Inserts new posts in bulk, skipping those whose slug is already taken
+     * (by an existing post or an earlier one in {@code posts}).
+     *
+     * @return the ids of the posts that were inserted
+     */
+    Set<PostId> insertAll(List<Post> posts);
+
     Page<Post> search(String keyword, int page, int size);
 
     Page<Post> findAll(int page, int size);
 
+    /**
+     * Keyset variant of {@link #findAll(int, int)}: returns the posts ordered by
+     * {@code (createdAt, id)} that come after {@code after}, or the first page
+     * when {@code after} is {@code null}. No total count is computed.
+     */
+    CursorPage<Post> findAll(Cursor after, int size);
+
     boolean existsByCategory(CategoryId categoryId);
     
     Page<Post> searchDeletedPosts(String keyword, int page, int size);
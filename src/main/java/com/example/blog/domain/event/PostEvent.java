@@ -0,0 +1,43 @@
+package com.example.blog.domain.event;
+
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.PostId;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+
+/**
+ * Something that happened to a post or one of its comments. Raised by the aggregate and
+ * stored by the repository in the transaction that saves the change.
+ *
+ * @param commentId the comment concerned, {@code null} for post events
+ */
+public record PostEvent(Type type, PostId postId, CommentId commentId, LocalDateTime occurredAt) {
+
+    public PostEvent {
+        Assert.notNull(type, "event type must not be null");
+        Assert.notNull(postId, "post id must not be null");
+        Assert.notNull(occurredAt, "occurredAt must not be null");
+    }
+
+    public static PostEvent of(Type type, PostId postId) {
+        return new PostEvent(type, postId, null, LocalDateTime.now());
+    }
+
+    public static PostEvent of(Type type, PostId postId, CommentId commentId) {
+        return new PostEvent(type, postId, commentId, LocalDateTime.now());
+    }
+
+    public enum Type {
+        POST_CREATED,
+        POST_UPDATED,
+        POST_PUBLISHED,
+        POST_UNPUBLISHED,
+        POST_DELETED,
+        COMMENT_ADDED,
+        COMMENT_REMOVED,
+        COMMENT_APPROVED,
+        COMMENT_APPROVAL_CANCELLED
+    }
+
+}
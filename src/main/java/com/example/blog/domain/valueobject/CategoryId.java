@@ -11,7 +11,7 @@ public record CategoryId(UUID id) {
     }
 
     public CategoryId() {
-        this(UUID.randomUUID());
+        this(Ids.next());
     }
 
     public static CategoryId fromUUID(UUID id) {
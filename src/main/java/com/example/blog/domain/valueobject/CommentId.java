@@ -11,7 +11,7 @@ public record CommentId(UUID id) {
     }
 
     public CommentId() {
-        this(UUID.randomUUID());
+        this(Ids.next());
     }
 
     public static CommentId fromUUID(UUID uuid) {
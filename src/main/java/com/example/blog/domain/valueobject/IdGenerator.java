@@ -0,0 +1,15 @@
+package com.example.blog.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Source of new identifiers for the domain's id value objects.
+ *
+ * @see Ids
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID generate();
+
+}
@@ -0,0 +1,31 @@
+package com.example.blog.domain.valueobject;
+
+import org.springframework.util.Assert;
+
+import java.util.UUID;
+
+/**
+ * Holds the {@link IdGenerator} used by {@link PostId}, {@link CommentId} and {@link CategoryId}.
+ * Defaults to time-ordered {@link UuidV7Generator UUIDv7}; the application may swap it at startup.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        return generator.generate();
+    }
+
+    public static void setGenerator(IdGenerator generator) {
+        Assert.notNull(generator, "id generator must not be null");
+        Ids.generator = generator;
+    }
+
+    public static IdGenerator getGenerator() {
+        return generator;
+    }
+
+}
@@ -11,7 +11,7 @@ public record PostId(UUID id) {
     }
 
     public PostId() {
-        this(UUID.randomUUID());
+        this(Ids.next());
     }
 
     public static PostId fromUUID(UUID uuid) {
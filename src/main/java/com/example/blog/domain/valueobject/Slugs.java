@@ -0,0 +1,138 @@
+package com.example.blog.domain.valueobject;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Turns titles into URL slugs: lower-case ASCII letters and digits, with every other run
+ * of characters collapsed into a single {@code -} and none at either end.
+ * <p>
+ * Latin letters with diacritics (including Vietnamese) and Cyrillic are transliterated
+ * through lookup tables built once, so {@link #normalize} is a single pass over the title
+ * with no regular expressions and no allocation besides the result. Titles without any
+ * letter or digit left get {@value #FALLBACK}.
+ */
+public final class Slugs {
+
+    /**
+     * Longest slug produced, leaving room in the column for a de-duplicating suffix.
+     */
+    public static final int MAX_LENGTH = 200;
+
+    static final String FALLBACK = "post";
+
+    // Latin-1 Supplement, Latin Extended-A and -B
+    private static final char LATIN_START = '\u00C0';
+    private static final String[] LATIN = latinTable(LATIN_START, '\u024F');
+    // Latin Extended Additional (most precomposed Vietnamese letters)
+    private static final char LATIN_ADDITIONAL_START = '\u1E00';
+    private static final String[] LATIN_ADDITIONAL = latinTable(LATIN_ADDITIONAL_START, '\u1EFF');
+    // U+0430..U+044F, also used for the upper-case U+0410..U+042F
+    private static final String[] CYRILLIC = {
+            "a", "b", "v", "g", "d", "e", "zh", "z", "i", "y", "k", "l", "m", "n", "o", "p",
+            "r", "s", "t", "u", "f", "kh", "ts", "ch", "sh", "shch", "", "y", "", "e", "yu", "ya"
+    };
+
+    private Slugs() {
+    }
+
+    public static String normalize(String text) {
+        StringBuilder slug = new StringBuilder(Math.min(text.length(), MAX_LENGTH));
+        boolean pendingSeparator = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String transliterated = null;
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (!(c >= 'a' && c <= 'z' || c >= '0' && c <= '9')) {
+                transliterated = transliterate(c);
+                if (transliterated == null) {
+                    pendingSeparator = true;
+                    continue;
+                }
+                if (transliterated.isEmpty()) {
+                    // hard and soft signs: letters without a spelling of their own
+                    continue;
+                }
+            }
+
+            int length = transliterated == null ? 1 : transliterated.length();
+            int separatorLength = pendingSeparator && !slug.isEmpty() ? 1 : 0;
+            if (slug.length() + separatorLength + length > MAX_LENGTH) {
+                break;
+            }
+            if (separatorLength > 0) {
+                slug.append('-');
+            }
+            pendingSeparator = false;
+            if (transliterated == null) {
+                slug.append(c);
+            } else {
+                slug.append(transliterated);
+            }
+        }
+        return slug.isEmpty() ? FALLBACK : slug.toString();
+    }
+
+    /**
+     * The ASCII spelling of a non-ASCII letter, {@code ""} for letters that are dropped,
+     * or {@code null} for anything that separates words.
+     */
+    private static String transliterate(char c) {
+        if (c >= LATIN_START && c < LATIN_START + LATIN.length) {
+            return LATIN[c - LATIN_START];
+        }
+        if (c >= LATIN_ADDITIONAL_START && c < LATIN_ADDITIONAL_START + LATIN_ADDITIONAL.length) {
+            return LATIN_ADDITIONAL[c - LATIN_ADDITIONAL_START];
+        }
+        if (c == '\u0401' || c == '\u0451') {
+            return "e";
+        }
+        if (c >= '\u0410' && c <= '\u042F') {
+            return CYRILLIC[c - '\u0410'];
+        }
+        if (c >= '\u0430' && c <= '\u044F') {
+            return CYRILLIC[c - '\u0430'];
+        }
+        return null;
+    }
+
+    /**
+     * Spells every letter of the range by decomposing it and dropping the combining marks,
+     * with a few letters that do not decompose spelled out by hand.
+     */
+    private static String[] latinTable(char first, char last) {
+        String[] table = new String[last - first + 1];
+        for (char c = first; c <= last; c++) {
+            String spelled = switch (c) {
+                case '\u00DF', '\u1E9E' -> "ss";
+                case '\u00C6', '\u00E6' -> "ae";
+                case '\u0152', '\u0153' -> "oe";
+                case '\u00D8', '\u00F8' -> "o";
+                case '\u00D0', '\u00F0', '\u0110', '\u0111' -> "d";
+                case '\u00DE', '\u00FE' -> "th";
+                case '\u0141', '\u0142' -> "l";
+                case '\u0126', '\u0127' -> "h";
+                case '\u0166', '\u0167' -> "t";
+                case '\u0131' -> "i";
+                default -> decompose(c);
+            };
+            table[c - first] = spelled;
+        }
+        return table;
+    }
+
+    private static String decompose(char c) {
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < decomposed.length(); i++) {
+            char d = decomposed.charAt(i);
+            if (Character.getType(d) != Character.NON_SPACING_MARK) {
+                letters.append(d);
+            }
+        }
+        String spelled = letters.toString().toLowerCase(Locale.ROOT);
+        return !spelled.isEmpty() && spelled.chars().allMatch(ch -> ch >= 'a' && ch <= 'z') ? spelled : null;
+    }
+
+}
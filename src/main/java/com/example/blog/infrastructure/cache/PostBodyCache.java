@@ -0,0 +1,113 @@
+package com.example.blog.infrastructure.cache;
+
+import com.example.blog.infrastructure.jpa.event.CategorySavedEvent;
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response bodies of the public post read, serialized once and kept as UTF-8 JSON and
+ * gzipped, bounded by {@code blog.cache.post-body.max-weight} bytes.
+ * <p>
+ * Entries belong to one version of the post view and are only served for that version,
+ * so a change made by another instance is picked up on the next read. Local changes
+ * drop the entry once their transaction completes.
+ */
+@Component
+public class PostBodyCache {
+
+    // record, array headers and the version string
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private final WeightedLruCache<UUID, Body> cache;
+    private final LongAdder serializedBytesSaved = new LongAdder();
+    private final LongAdder compressedBytesSaved = new LongAdder();
+
+    public PostBodyCache(MeterRegistry meterRegistry,
+                         @Value("${blog.cache.post-body.max-weight:8MB}") DataSize maxWeight) {
+        this.cache = new WeightedLruCache<>(maxWeight.toBytes(), Body::weight);
+        new WeightedLruCacheMetrics(cache, "post-body", Tags.empty()).bindTo(meterRegistry);
+        FunctionCounter.builder("blog.cache.post-body.saved", serializedBytesSaved, LongAdder::sum)
+                .description("Bytes of JSON served from the cache instead of serializing them again")
+                .baseUnit("bytes")
+                .tag("by", "serialization")
+                .register(meterRegistry);
+        FunctionCounter.builder("blog.cache.post-body.saved", compressedBytesSaved, LongAdder::sum)
+                .description("Bytes not sent thanks to gzipped bodies")
+                .baseUnit("bytes")
+                .tag("by", "compression")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The body of the post at {@code version}, gzipped if {@code gzip} is set. On a miss the
+     * JSON comes from {@code serializer}, which must produce that version of the post.
+     */
+    public byte[] get(UUID postId, String version, boolean gzip, Supplier<byte[]> serializer) {
+        Body body = cache.get(postId);
+        if (body != null && body.version().equals(version)) {
+            serializedBytesSaved.add(body.json().length);
+        } else {
+            byte[] json = serializer.get();
+            body = new Body(version, json, gzip(json));
+            if (ReadThroughCache.isCacheable()) {
+                cache.put(postId, body);
+            }
+        }
+
+        if (!gzip) {
+            return body.json();
+        }
+        compressedBytesSaved.add(Math.max(0, body.json().length - body.gzipped().length));
+        return body.gzipped();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onCommentsChanged(CommentsChangedEvent event) {
+        event.postIds().forEach(cache::invalidate);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    record Body(String version, byte[] json, byte[] gzipped) {
+
+        long weight() {
+            return ENTRY_OVERHEAD + json.length + gzipped.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.example.blog.infrastructure.cache;
+
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maps the slugs of published posts to their ids for the public read API, remembering
+ * unknown slugs as well so that repeated misses do not reach the database either.
+ * <p>
+ * A slug's entry is dropped when a post with that slug is saved on this instance, which
+ * covers publishing (only unpublished posts can be renamed or deleted, and those are never
+ * cached under their slug). Callers check the post they load against the slug and
+ * {@link #invalidate} it when the entry turns out stale.
+ */
+@Component
+public class PostSlugCache {
+
+    private final ReadThroughCache<String, Optional<UUID>> cache;
+
+    public PostSlugCache(PostEntityRepository repository, MeterRegistry meterRegistry,
+                         @Value("${blog.cache.post-slug.max-entries:100000}") long maxEntries,
+                         @Value("${blog.cache.post-slug.max-age:30s}") Duration maxAge) {
+        this.cache = new ReadThroughCache<>("post-slug", maxEntries, postId -> 1, maxAge,
+                repository::findPublishedIdBySlug, meterRegistry);
+    }
+
+    /**
+     * The id of the published, live post with this slug, if there is one.
+     */
+    public Optional<UUID> resolve(String slug) {
+        return cache.get(slug);
+    }
+
+    public void invalidate(String slug) {
+        cache.invalidate(slug);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        if (event.slug() != null) {
+            cache.invalidate(event.slug());
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.blog.infrastructure.cache;
+
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Remembers whether posts are live and published, for checks that should not load the
+ * aggregate, such as accepting a comment. Entries are dropped when the post is saved on
+ * this instance.
+ */
+@Component
+public class PostStatusCache {
+
+    private final ReadThroughCache<UUID, Boolean> cache;
+
+    public PostStatusCache(PostEntityRepository repository, MeterRegistry meterRegistry,
+                           @Value("${blog.cache.post-status.max-entries:100000}") long maxEntries,
+                           @Value("${blog.cache.post-status.max-age:30s}") Duration maxAge) {
+        this.cache = new ReadThroughCache<>("post-status", maxEntries, published -> 1, maxAge,
+                repository::existsByIdAndPublishedAtIsNotNullAndDeletedAtIsNull, meterRegistry);
+    }
+
+    public boolean isPublished(UUID postId) {
+        return cache.get(postId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+}
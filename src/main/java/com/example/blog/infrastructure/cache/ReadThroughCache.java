@@ -0,0 +1,52 @@
+package com.example.blog.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link WeightedLruCache} filled by a loader on misses, for lookups that are shared by
+ * every caller of this instance.
+ * <p>
+ * Owners drop the entries of their local writes once the write has completed, and entries
+ * expire after {@code maxAge}, which bounds how long a write made by another instance goes
+ * unseen. A value read by a read-write transaction is returned but never cached, see
+ * {@link #isCacheable()}.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final WeightedLruCache<K, V> cache;
+    private final Function<K, V> loader;
+
+    /**
+     * @param loader reads the value of a key; it must not return {@code null}
+     */
+    public ReadThroughCache(String name, long maxWeight, ToLongFunction<V> weigher, Duration maxAge,
+                            Function<K, V> loader, MeterRegistry meterRegistry) {
+        this.cache = new WeightedLruCache<>(maxWeight, weigher, maxAge);
+        this.loader = loader;
+        new WeightedLruCacheMetrics(cache, name, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public V get(K key) {
+        return cache.get(key, loader, isCacheable());
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Whether what the current thread reads may be shared: not inside a read-write
+     * transaction, which may see its own uncommitted writes.
+     */
+    public static boolean isCacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.example.blog.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Least-recently-used cache bounded by the total weight of its values rather than
+ * their count. Values heavier than the whole budget are not cached, and entries older
+ * than the optional max age count as misses. Thread-safe; the loader runs outside the
+ * lock, so two concurrent misses may both load.
+ * <p>
+ * A value loaded by {@link #get(Object, Function, boolean)} is only stored if its key
+ * was not invalidated while it loaded, so a reader that loaded before a write cannot put
+ * the old value back after the writer evicted it. Invalidations are tracked per stripe
+ * of keys, so an unrelated invalidation may occasionally skip a fill, never the reverse.
+ */
+public class WeightedLruCache<K, V> {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // bumped by every invalidation of a key in the stripe; guarded by this
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this(maxWeight, weigher, null);
+    }
+
+    /**
+     * @param maxAge how long an entry is served, or {@code null} to keep it until evicted
+     */
+    public WeightedLruCache(long maxWeight, ToLongFunction<V> weigher, Duration maxAge) {
+        this(maxWeight, weigher, maxAge, System::nanoTime);
+    }
+
+    WeightedLruCache(long maxWeight, ToLongFunction<V> weigher, Duration maxAge, LongSupplier nanoClock) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.maxAgeNanos = maxAge == null ? Long.MAX_VALUE : maxAge.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public V get(K key) {
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && nanoClock.getAsLong() - entry.loadedAtNanos() > maxAgeNanos) {
+                remove(key);
+                entry = null;
+            }
+        }
+        (entry == null ? misses : hits).increment();
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it when {@code cacheable} is set.
+     */
+    public V get(K key, Function<K, V> loader, boolean cacheable) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        long generation;
+        synchronized (this) {
+            generation = generations[stripe(key)];
+        }
+        value = loader.apply(key);
+        if (value != null && cacheable) {
+            put(key, value, generation);
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, -1);
+    }
+
+    public synchronized void invalidate(K key) {
+        generations[stripe(key)]++;
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < generations.length; i++) {
+            generations[i]++;
+        }
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Stores the value unless {@code generation} is set and the key has been invalidated since.
+     */
+    private void put(K key, V value, long generation) {
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+        synchronized (this) {
+            if (generation >= 0 && generations[stripe(key)] != generation) {
+                return;
+            }
+            Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight, nanoClock.getAsLong()));
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += valueWeight;
+            evictToBudget();
+        }
+        puts.increment();
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    private static int stripe(Object key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long weight, long loadedAtNanos) {
+
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.example.blog.infrastructure.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Publishes the standard {@code cache.*} meters for a {@link WeightedLruCache},
+ * plus its current and maximum weight in bytes.
+ */
+public class WeightedLruCacheMetrics extends CacheMeterBinder<WeightedLruCache<?, ?>> {
+
+    public WeightedLruCacheMetrics(WeightedLruCache<?, ?> cache, String cacheName, Iterable<Tag> tags) {
+        super(cache, cacheName, tags);
+    }
+
+    @Override
+    protected Long size() {
+        WeightedLruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        WeightedLruCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        WeightedLruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        WeightedLruCache<?, ?> cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        WeightedLruCache<?, ?> cache = getCache();
+        return cache == null ? 0 : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        WeightedLruCache<?, ?> cache = getCache();
+        Gauge.builder("cache.weight", cache, WeightedLruCache::weight)
+                .tags(getTagsWithCacheName())
+                .baseUnit("bytes")
+                .description("Estimated weight of the cached values")
+                .register(registry);
+        Gauge.builder("cache.max.weight", cache, WeightedLruCache::maxWeight)
+                .tags(getTagsWithCacheName())
+                .baseUnit("bytes")
+                .description("Weight budget of the cache")
+                .register(registry);
+    }
+
+}
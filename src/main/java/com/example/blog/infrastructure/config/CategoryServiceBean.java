@@ -1,8 +1,10 @@
 package com.example.blog.infrastructure.config;
 
+import com.example.blog.application.CategoryQueryService;
 import com.example.blog.application.CategoryService;
 import com.example.blog.domain.CategoryRepository;
 import com.example.blog.domain.PostRepository;
+import com.example.blog.utils.mapper.CategoryMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,4 +19,9 @@ public class CategoryServiceBean {
         return new CategoryService(categoryRepository, postRepository);
     }
 
+    @Bean
+    CategoryQueryService categoryQueryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+        return new CategoryQueryService(categoryRepository, categoryMapper);
+    }
+
 }
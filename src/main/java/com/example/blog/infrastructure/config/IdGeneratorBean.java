@@ -0,0 +1,29 @@
+package com.example.blog.infrastructure.config;
+
+import com.example.blog.domain.valueobject.IdGenerator;
+import com.example.blog.domain.valueobject.Ids;
+import com.example.blog.domain.valueobject.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+@Configuration
+public class IdGeneratorBean {
+
+    /**
+     * {@code blog.id.generator}: {@code v7} (time-ordered, default) or {@code v4} (random).
+     */
+    @Bean
+    IdGenerator idGenerator(@Value("${blog.id.generator:v7}") String type) {
+        IdGenerator generator = switch (type) {
+            case "v7" -> new UuidV7Generator();
+            case "v4" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("Unknown blog.id.generator: " + type);
+        };
+        Ids.setGenerator(generator);
+        return generator;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.blog.infrastructure.config;
+
+import com.example.blog.infrastructure.metrics.HibernateRequestStatistics;
+import com.example.blog.infrastructure.metrics.LayerTimingAspect;
+import com.example.blog.infrastructure.web.RequestStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Where the time of a request goes: service and repository timers, and per endpoint the
+ * work Hibernate did for it. Hikari pool and {@code http.server.requests} meters come with
+ * Actuator; everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.metrics.layers.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsBean {
+
+    @Bean
+    LayerTimingAspect layerTimingAspect(MeterRegistry meterRegistry) {
+        return new LayerTimingAspect(meterRegistry);
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateRequestStatistics() {
+        return HibernateRequestStatistics::install;
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilterRegistration(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestStatisticsFilter(meterRegistry));
+        registration.addUrlPatterns("/admin/*", "/posts/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.blog.infrastructure.config;
+
+import com.example.blog.infrastructure.outbox.ApplicationEventOutboxSink;
+import com.example.blog.infrastructure.outbox.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxBean {
+
+    /**
+     * In-process delivery unless another {@link OutboxSink} (a broker, a CDN purger) is declared.
+     */
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    OutboxSink outboxSink(ApplicationEventPublisher eventPublisher) {
+        return new ApplicationEventOutboxSink(eventPublisher);
+    }
+
+}
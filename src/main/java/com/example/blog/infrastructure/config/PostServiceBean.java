@@ -2,7 +2,10 @@ package com.example.blog.infrastructure.config;
 
 import com.example.blog.application.PostQueryService;
 import com.example.blog.application.PostService;
+import com.example.blog.application.query.CommentQueryRepository;
+import com.example.blog.application.query.PostQueryRepository;
 import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.CommentRepository;
 import com.example.blog.domain.PostRepository;
 import com.example.blog.utils.mapper.PostMapper;
 
@@ -14,13 +17,16 @@ public class PostServiceBean {
 
     @Bean
     PostService postService(PostRepository postRepository,
-                         CategoryRepository categoryRepository) {
-        return new PostService(postRepository, categoryRepository);
+                         CategoryRepository categoryRepository,
+                         CommentRepository commentRepository) {
+        return new PostService(postRepository, categoryRepository, commentRepository);
     }
     
     @Bean
-    PostQueryService postQueryService(PostRepository postRepository, PostMapper postMapper) {
-    	return new PostQueryService(postRepository, postMapper);
+    PostQueryService postQueryService(PostRepository postRepository, PostMapper postMapper,
+                                      PostQueryRepository postQueryRepository,
+                                      CommentQueryRepository commentQueryRepository) {
+    	return new PostQueryService(postRepository, postMapper, postQueryRepository, commentQueryRepository);
     }
 
 }
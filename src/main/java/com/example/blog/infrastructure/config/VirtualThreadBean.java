@@ -0,0 +1,49 @@
+package com.example.blog.infrastructure.config;
+
+import com.example.blog.infrastructure.web.RequestPermitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true} on Java 21, where Tomcat, the
+ * async request executor and the scheduler run on virtual threads. The platform thread
+ * pool no longer limits concurrency, so {@link RequestPermitFilter} does.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadBean {
+
+    // requests between two transactions, or served without a connection
+    private static final int PERMITS_OVER_POOL_SIZE = 2;
+
+    /**
+     * Admin requests are transactional and hold a connection for nearly their whole run, so
+     * by default only a few more requests than pooled connections are let in; more would
+     * only wait on Hikari and fail after its {@code connection-timeout}.
+     */
+    @Bean
+    RequestPermitFilter requestPermitFilter(
+            @Value("${blog.web.max-concurrent-requests:#{null}}") Integer maxConcurrentRequests,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${blog.web.permit-timeout:5s}") Duration timeout) {
+        int permits = maxConcurrentRequests != null ? maxConcurrentRequests : poolSize + PERMITS_OVER_POOL_SIZE;
+        return new RequestPermitFilter(permits, timeout);
+    }
+
+    @Bean
+    FilterRegistrationBean<RequestPermitFilter> requestPermitFilterRegistration(RequestPermitFilter filter) {
+        FilterRegistrationBean<RequestPermitFilter> registration = new FilterRegistrationBean<>(filter);
+        // actuator endpoints stay reachable while the API is saturated
+        registration.addUrlPatterns("/admin/*", "/posts/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.blog.infrastructure.ingest;
+
+import com.example.blog.infrastructure.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Inserts a batch of comments with a single statement, expanding column arrays with
+ * {@code unnest} like {@link com.example.blog.infrastructure.jpa.impl.PostBulkInserter}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentBatchWriter {
+
+    // the join re-checks the published invariant, which the submitter only checked against a cache,
+    // and drops comments whose post was unpublished or removed meanwhile instead of failing the batch;
+    // the outbox rows of the inserted comments are written by the same statement
+    private static final String INSERT_COMMENTS = """
+            with inserted as (
+                insert into comment (id, post_id, content, commenter_id, created_at, updated_at, approved_at)
+                select c.* from unnest(?::uuid[], ?::uuid[], ?::text[], ?::text[], ?::timestamp[], ?::timestamp[],
+                                       ?::timestamp[]) as c(id, post_id, content, commenter_id, created_at, updated_at, approved_at)
+                join post p on p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+                on conflict do nothing
+                returning id, post_id, created_at
+            )
+            insert into outbox (event_type, post_id, comment_id, occurred_at)
+            select 'COMMENT_ADDED', post_id, id, created_at from inserted
+            returning post_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * @return the post id of every inserted comment, one entry per row
+     */
+    public List<UUID> insert(List<PendingComment> comments) {
+        List<UUID> postIds = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_COMMENTS);
+            statement.setArray(1, array(connection, "uuid", comments.stream().map(c -> c.comment().getId().id())));
+            statement.setArray(2, array(connection, "uuid", comments.stream().map(PendingComment::postId)));
+            statement.setArray(3, array(connection, "text", comments.stream().map(c -> c.comment().getContent())));
+            statement.setArray(4, array(connection, "text", comments.stream().map(c -> c.comment().getCommenter().id())));
+            statement.setArray(5, array(connection, "timestamp", comments.stream().map(c -> timestamp(c.comment().getCreatedAt()))));
+            statement.setArray(6, array(connection, "timestamp", comments.stream().map(c -> timestamp(c.comment().getUpdatedAt()))));
+            statement.setArray(7, array(connection, "timestamp", comments.stream().map(c -> timestamp(c.comment().getApprovedAt()))));
+            return statement;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+        if (!postIds.isEmpty()) {
+            outboxRelay.wakeUp();
+        }
+        return postIds;
+    }
+
+    private static Array array(Connection connection, String type, Stream<?> values) throws SQLException {
+        return connection.createArrayOf(type, values.toArray());
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+}
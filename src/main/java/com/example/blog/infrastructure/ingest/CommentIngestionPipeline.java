@@ -0,0 +1,271 @@
+package com.example.blog.infrastructure.ingest;
+
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Appends comments through a bounded in-memory queue drained by a single writer thread,
+ * which inserts them in batches of up to {@code blog.comments.ingest.batch-size}. A batch
+ * is written once full or {@code blog.comments.ingest.linger} after its first comment,
+ * whichever comes first, so bursts on one post cost one insert per batch instead of a
+ * post load and save per comment.
+ * <p>
+ * When the queue is full, {@link #append} fails fast with {@link CommentQueueFullException}
+ * instead of blocking the request thread. Accepted comments are lost if the JVM dies
+ * before they are written; on shutdown the queue is drained first.
+ * <p>
+ * A failed insert is retried up to {@code blog.comments.ingest.max-attempts} times in all,
+ * backing off by {@code blog.comments.ingest.retry-backoff} more each time, before the batch
+ * is dropped; retries are safe as the insert skips comments that are already there.
+ * Listeners of the {@link CommentsChangedEvent} run after the batch is counted as written,
+ * and their failures are only logged.
+ */
+@Slf4j
+@Component
+public class CommentIngestionPipeline implements SmartLifecycle, MeterBinder {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long STOP_TIMEOUT_MILLIS = 30_000;
+
+    private final CommentBatchWriter writer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<PendingComment> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final boolean autoStartup;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CommentIngestionPipeline(CommentBatchWriter writer, ApplicationEventPublisher eventPublisher,
+                                    @Value("${blog.comments.ingest.capacity:10000}") int capacity,
+                                    @Value("${blog.comments.ingest.batch-size:500}") int batchSize,
+                                    @Value("${blog.comments.ingest.linger:50ms}") Duration linger,
+                                    @Value("${blog.comments.ingest.max-attempts:3}") int maxAttempts,
+                                    @Value("${blog.comments.ingest.retry-backoff:100ms}") Duration retryBackoff,
+                                    @Value("${blog.comments.ingest.enabled:true}") boolean autoStartup) {
+        this.writer = writer;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.autoStartup = autoStartup;
+    }
+
+    /**
+     * Queues the comment; it is written shortly after, once its batch is flushed.
+     *
+     * @throws CommentQueueFullException if the queue is full
+     */
+    public void append(PostId postId, Comment comment) {
+        if (!queue.offer(new PendingComment(postId.id(), comment))) {
+            rejected.incrementAndGet();
+            throw new CommentQueueFullException(capacity);
+        }
+        accepted.incrementAndGet();
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drain, "comment-ingest");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Lets the writer empty the queue without lingering, waiting at most 30 seconds for it.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Comment writer stopped with {} comments still queued", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Off with {@code blog.comments.ingest.enabled=false}, on read-only nodes that never append.
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    /**
+     * Starts before and stops after the web server, so requests accepted during a
+     * graceful shutdown are still written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blog.comments.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Comments accepted and not written yet")
+                .register(registry);
+        Gauge.builder("blog.comments.ingest.queue.capacity", () -> capacity)
+                .description("Comments that can be queued before new ones are rejected")
+                .register(registry);
+        counter(registry, "accepted", accepted);
+        counter(registry, "rejected", rejected);
+        counter(registry, "written", written);
+        counter(registry, "dropped", dropped);
+        flushTimer = Timer.builder("blog.comments.ingest.flush")
+                .description("Time to write one batch of comments")
+                .register(registry);
+    }
+
+    private void drain() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<PendingComment> batch) throws InterruptedException {
+        // no lingering while shutting down, the queue only shrinks from here
+        long deadline = System.nanoTime() + (running ? lingerNanos : 0);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        List<UUID> postIds = insert(batch);
+        if (postIds == null) {
+            dropped.addAndGet(batch.size());
+            return;
+        }
+        written.addAndGet(postIds.size());
+        dropped.addAndGet(batch.size() - postIds.size());
+        if (postIds.isEmpty()) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new CommentsChangedEvent(new HashSet<>(postIds)));
+        } catch (RuntimeException e) {
+            // the comments are written, and their outbox rows with them
+            log.error("A listener failed on {} written comments", postIds.size(), e);
+        }
+    }
+
+    /**
+     * @return the post ids of the inserted comments, or {@code null} once all attempts failed
+     */
+    private List<UUID> insert(List<PendingComment> batch) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return writer.insert(batch);
+                } catch (RuntimeException e) {
+                    if (attempt >= maxAttempts) {
+                        log.error("Dropped a batch of {} comments after {} attempts", batch.size(), attempt, e);
+                        return null;
+                    }
+                    log.warn("Writing a batch of {} comments failed, retrying ({} of {}): {}",
+                            batch.size(), attempt, maxAttempts, e.toString());
+                }
+                try {
+                    Thread.sleep(retryBackoffMillis * attempt);
+                } catch (InterruptedException e) {
+                    // leave the flag for the drain loop, which stops on it
+                    Thread.currentThread().interrupt();
+                    log.error("Dropped a batch of {} comments, interrupted while retrying", batch.size());
+                    return null;
+                }
+            }
+        } finally {
+            Timer timer = flushTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String outcome, AtomicLong count) {
+        FunctionCounter.builder("blog.comments.ingest.comments", count, AtomicLong::get)
+                .tag("outcome", outcome)
+                .description("Comments submitted to the ingestion queue, by outcome")
+                .register(registry);
+    }
+
+}
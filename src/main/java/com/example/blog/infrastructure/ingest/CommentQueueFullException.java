@@ -0,0 +1,12 @@
+package com.example.blog.infrastructure.ingest;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class CommentQueueFullException extends RuntimeException {
+
+    public CommentQueueFullException(int capacity) {
+        super(String.format("Comment queue is full (%d pending), try again later", capacity));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.blog.infrastructure.ingest;
+
+import com.example.blog.domain.Comment;
+
+import java.util.UUID;
+
+/**
+ * A comment accepted by the {@link CommentIngestionPipeline} and not written yet.
+ */
+public record PendingComment(
+        UUID postId,
+        Comment comment
+) {
+
+}
@@ -39,16 +39,17 @@ public class CategoryEntity {
         return entity;
     }
 
+    // final and going through getId(), so that an uninitialized proxy from
+    // getReference() can be put in the post's category set without being loaded
     @Override
-    public boolean equals(Object o) {
-        if (o == null || getClass() != o.getClass()) return false;
-        CategoryEntity category = (CategoryEntity) o;
-        return Objects.equals(id, category.id);
+    public final boolean equals(Object o) {
+        if (!(o instanceof CategoryEntity category)) return false;
+        return Objects.equals(getId(), category.getId());
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(id);
+    public final int hashCode() {
+        return Objects.hashCode(getId());
     }
 
 }
@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -18,6 +19,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "comment")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,6 +29,9 @@ public class CommentEntity {
     @ToString.Include
     private UUID id;
 
+    @Column(name = "post_id", nullable = false, updatable = false)
+    private UUID postId;
+
     @Column(name = "content", nullable = false)
     @ToString.Include
     private String content;
@@ -53,9 +58,16 @@ public class CommentEntity {
         return Comment.reconstitute(commentId, content, commenter, createdAt, updatedAt, approvedAt);
     }
 
-    public static CommentEntity fromDomain(Comment comment) {
+    public void updateFrom(Comment comment) {
+        content = comment.getContent();
+        updatedAt = comment.getUpdatedAt();
+        approvedAt = comment.getApprovedAt();
+    }
+
+    public static CommentEntity fromDomain(UUID postId, Comment comment) {
         CommentEntity entity = new CommentEntity();
         entity.id = comment.getId().id();
+        entity.postId = postId;
         entity.content = comment.getContent();
         entity.commenterId = comment.getCommenter().id();
         entity.createdAt = comment.getCreatedAt();
@@ -1,7 +1,6 @@
 package com.example.blog.infrastructure.jpa.entity;
 
 import com.example.blog.domain.Category;
-import com.example.blog.domain.Comment;
 import com.example.blog.domain.Post;
 import com.example.blog.domain.valueobject.Author;
 import com.example.blog.domain.valueobject.PostId;
@@ -10,14 +9,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "post")
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -31,7 +35,6 @@ public class PostEntity {
     @ToString.Include
     private String title;
 
-    @Lob
     @Column(name = "content", columnDefinition = "TEXT")
     @ToString.Include
     private String content;
@@ -46,11 +49,10 @@ public class PostEntity {
             joinColumns = @JoinColumn(name = "post_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id")
     )
-    private List<CategoryEntity> categories = new ArrayList<>();
+    private Set<CategoryEntity> categories = new LinkedHashSet<>();
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "post_id")
-    private List<CommentEntity> comments = new ArrayList<>();
+    // comments are not mapped as a collection: there can be too many to load with the post,
+    // they are read, counted and written through CommentEntityRepository instead
 
     @Column(name = "created_at", nullable = false, updatable = false)
     @ToString.Include
@@ -78,8 +80,8 @@ public class PostEntity {
         entity.title = post.getTitle();
         entity.content = post.getContent();
         entity.authorId = post.getAuthor().id();
-        entity.categories = post.getCategories().stream().map(CategoryEntity::fromDomain).toList();
-        entity.comments = post.getComments().stream().map(CommentEntity::fromDomain).toList();
+        entity.categories = post.getCategories().stream().map(CategoryEntity::fromDomain)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
         entity.createdAt = post.getCreatedAt();
         entity.slug = post.getSlug();
         entity.publishedAt = post.getPublishedAt();
@@ -89,14 +91,42 @@ public class PostEntity {
         return entity;
     }
 
-    public Post toDomain() {
+    /**
+     * Copies the state of {@code post} onto this managed entity, touching only what differs,
+     * so that dirty checking flushes just the changed columns and rows. Categories are
+     * linked through {@code categoryReference} so that adding one does not load it.
+     * Comments are saved separately.
+     */
+    public void updateFrom(Post post, Function<UUID, CategoryEntity> categoryReference) {
+        title = post.getTitle();
+        content = post.getContent();
+        slug = post.getSlug();
+        publishedAt = post.getPublishedAt();
+        updatedAt = post.getUpdatedAt();
+        deletedAt = post.getDeletedAt();
+
+        Set<UUID> categoryIds = post.getCategories().stream()
+                .map(category -> category.getId().id())
+                .collect(Collectors.toSet());
+        categories.removeIf(category -> !categoryIds.contains(category.getId()));
+        Set<UUID> linkedCategoryIds = categories.stream().map(CategoryEntity::getId).collect(Collectors.toSet());
+        categoryIds.stream()
+                .filter(id -> !linkedCategoryIds.contains(id))
+                .map(categoryReference)
+                .forEach(categories::add);
+    }
+
+    /**
+     * @param comments the comments to load into the aggregate, usually only some of them
+     * @param commentCount the number of all comments of the post
+     */
+    public Post toDomain(List<CommentEntity> comments, long commentCount) {
         PostId postId = PostId.fromUUID(id);
         Author author = new Author(authorId);
         List<Category> categories = this.categories.stream()
                 .map(CategoryEntity::toDomain).toList();
-        List<Comment> comments = this.comments.stream()
-                .map(CommentEntity::toDomain).toList();
-        return Post.reconstitute(postId, title, slug, content, author, categories, comments,
+        return Post.reconstitute(postId, title, slug, content, author, categories,
+                comments.stream().map(CommentEntity::toDomain).toList(), commentCount,
                 createdAt, updatedAt, publishedAt, deletedAt);
     }
 
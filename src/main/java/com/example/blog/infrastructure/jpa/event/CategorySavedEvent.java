@@ -0,0 +1,18 @@
+package com.example.blog.infrastructure.jpa.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the category repository when a category is saved or deleted.
+ *
+ * @param postIds posts that lost the category with this change; those still linked to it
+ *                are looked up by its id
+ */
+public record CategorySavedEvent(UUID id, Set<UUID> postIds) {
+
+    public CategorySavedEvent(UUID id) {
+        this(id, Set.of());
+    }
+
+}
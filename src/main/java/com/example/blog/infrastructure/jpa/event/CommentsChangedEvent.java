@@ -0,0 +1,14 @@
+package com.example.blog.infrastructure.jpa.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published after comments were written, approved or removed outside of the post
+ * aggregate, with the ids of the posts they belong to.
+ */
+public record CommentsChangedEvent(
+        Set<UUID> postIds
+) {
+
+}
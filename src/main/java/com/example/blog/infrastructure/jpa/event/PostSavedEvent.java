@@ -0,0 +1,18 @@
+package com.example.blog.infrastructure.jpa.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by the post repository for every saved post. Listeners that keep
+ * derived state (search index, caches) should react after commit.
+ */
+public record PostSavedEvent(
+        UUID id,
+        String title,
+        String slug,
+        String content,
+        LocalDateTime deletedAt
+) {
+
+}
@@ -0,0 +1,102 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.valueobject.CategoryId;
+import com.example.blog.infrastructure.jpa.entity.CategoryEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the category table. Lookups hand out fresh {@link Category}
+ * instances, since the domain object is mutable.
+ * <p>
+ * The version is a hash of the content, so it is the same on every instance
+ * serving the same categories and survives restarts.
+ */
+final class CategoryDictionary {
+
+    private final Map<UUID, String> namesById;
+    private final Map<String, UUID> idsByName;
+    private final long version;
+    private final long generation;
+    private final long loadedAtNanos;
+
+    private CategoryDictionary(Map<UUID, String> namesById, long generation, long loadedAtNanos) {
+        this.namesById = namesById;
+        this.idsByName = new LinkedHashMap<>();
+        namesById.forEach((id, name) -> idsByName.put(name, id));
+        this.version = checksum(namesById);
+        this.generation = generation;
+        this.loadedAtNanos = loadedAtNanos;
+    }
+
+    static CategoryDictionary of(Collection<CategoryEntity> categories, long generation, long loadedAtNanos) {
+        Map<UUID, String> namesById = new LinkedHashMap<>();
+        categories.stream()
+                .sorted(Comparator.comparing(CategoryEntity::getName).thenComparing(CategoryEntity::getId))
+                .forEach(category -> namesById.put(category.getId(), category.getName()));
+        return new CategoryDictionary(namesById, generation, loadedAtNanos);
+    }
+
+    Category findById(UUID id) {
+        String name = namesById.get(id);
+        return name == null ? null : Category.reconstitute(CategoryId.fromUUID(id), name);
+    }
+
+    List<Category> findByIds(Collection<UUID> ids) {
+        return ids.stream()
+                .distinct()
+                .map(this::findById)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    List<Category> findAll() {
+        return namesById.entrySet().stream()
+                .map(entry -> Category.reconstitute(CategoryId.fromUUID(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    boolean containsName(String name) {
+        return name != null && idsByName.containsKey(name);
+    }
+
+    long version() {
+        return version;
+    }
+
+    long generation() {
+        return generation;
+    }
+
+    boolean isOlderThan(long maxAgeNanos, long nowNanos) {
+        return nowNanos - loadedAtNanos > maxAgeNanos;
+    }
+
+    private static long checksum(Map<UUID, String> namesById) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        namesById.forEach((id, name) -> {
+            digest.update(id.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        });
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+}
@@ -2,52 +2,111 @@ package com.example.blog.infrastructure.jpa.impl;
 
 import com.example.blog.domain.Category;
 import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.exception.CategoryAlreadyExistsException;
 import com.example.blog.domain.valueobject.CategoryId;
+import com.example.blog.infrastructure.cache.ReadThroughCache;
 import com.example.blog.infrastructure.jpa.entity.CategoryEntity;
+import com.example.blog.infrastructure.jpa.event.CategorySavedEvent;
 import com.example.blog.infrastructure.jpa.exception.ResourceNotFoundException;
 import com.example.blog.infrastructure.jpa.repository.CategoryEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
+/**
+ * Reads are served from an in-memory {@link CategoryDictionary}. It is swapped for a
+ * fresh copy when a category write completes, and reloaded after
+ * {@code blog.cache.category.max-age} to pick up writes made by other instances.
+ * Within a transaction that wrote categories, reads still see the snapshot from
+ * before the write.
+ * <p>
+ * Only committed state is shared: the snapshot is reloaded after a write completes or by
+ * readers outside of read-write transactions. A read-write transaction finding the
+ * snapshot expired reads the table for itself and keeps what it read to itself. Reloads
+ * are single-flight; concurrent readers of an expired snapshot wait for one load.
+ */
 @Component
 public class CategoryRepositoryImpl implements CategoryRepository {
 
     private final CategoryEntityRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long maxAgeNanos;
 
-    public CategoryRepositoryImpl(CategoryEntityRepository repository) {
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<CategoryDictionary> dictionary = new AtomicReference<>();
+    // bumped by every completed write, so that loads started before it are not shared
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicReference<Load> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public CategoryRepositoryImpl(CategoryEntityRepository repository, ApplicationEventPublisher eventPublisher,
+                                  @Value("${blog.cache.category.max-age:1m}") Duration maxAge) {
+        this(repository, eventPublisher, maxAge, System::nanoTime);
+    }
+
+    CategoryRepositoryImpl(CategoryEntityRepository repository, ApplicationEventPublisher eventPublisher,
+                           Duration maxAge, LongSupplier nanoClock) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
     }
 
     @Override
     public List<Category> findCategoryByIds(List<CategoryId> ids) {
-        return repository.findByIdIn(ids.stream().map(CategoryId::id).toList())
-                .stream()
-                .map(CategoryEntity::toDomain)
-                .toList();
+        return dictionary().findByIds(ids.stream().map(CategoryId::id).toList());
     }
 
     @Override
     public void save(Category category) {
         CategoryEntity entity = CategoryEntity.fromDomain(category);
-        repository.save(entity);
+        try {
+            // flush so a name taken behind the snapshot's back fails here, on uidx_category_name
+            repository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new CategoryAlreadyExistsException(category.getName());
+        }
+        eventPublisher.publishEvent(new CategorySavedEvent(entity.getId()));
     }
 
     @Override
     public boolean existByName(String name) {
-        return repository.existsByName(name);
+        return dictionary().containsName(name);
     }
 
     @Override
     public Category findById(CategoryId categoryId) {
-        return repository.findById(categoryId.id())
-                .map(CategoryEntity::toDomain)
-                .orElseThrow(() -> new ResourceNotFoundException(categoryId.id()));
+        Category category = dictionary().findById(categoryId.id());
+        if (category == null) {
+            throw new ResourceNotFoundException(categoryId.id());
+        }
+        return category;
     }
 
     @Override
     public List<Category> findAll() {
-        return repository.findAll().stream().map(CategoryEntity::toDomain).toList();
+        return dictionary().findAll();
+    }
+
+    @Override
+    public long version() {
+        return dictionary().version();
     }
 
     @Override
@@ -55,7 +114,71 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         CategoryEntity entity = CategoryEntity.fromDomain(category);
         if (entity.getId() == null)
             return;
+        // only trashed posts can still link to it, and the foreign key keeps them from losing it
+        Set<UUID> postIds = new HashSet<>(repository.findPostIdsById(entity.getId()));
         repository.delete(entity);
+        eventPublisher.publishEvent(new CategorySavedEvent(entity.getId(), postIds));
+    }
+
+    /**
+     * Runs once the write has committed or rolled back, so the table only holds committed rows.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onCategorySaved(CategorySavedEvent event) {
+        generations.incrementAndGet();
+        reload();
+    }
+
+    private CategoryDictionary dictionary() {
+        CategoryDictionary current = dictionary.get();
+        if (current != null && !current.isOlderThan(maxAgeNanos, nanoClock.getAsLong())) {
+            return current;
+        }
+        if (!ReadThroughCache.isCacheable()) {
+            return CategoryDictionary.of(repository.findAll(), generations.get(), nanoClock.getAsLong());
+        }
+        return reload();
+    }
+
+    private CategoryDictionary reload() {
+        while (true) {
+            long generation = generations.get();
+            Load running = inFlight.get();
+            if (running != null && running.generation() == generation) {
+                return running.await();
+            }
+            Load load = new Load(generation, new CompletableFuture<>());
+            if (!inFlight.compareAndSet(running, load)) {
+                continue;
+            }
+            try {
+                CategoryDictionary loaded = CategoryDictionary.of(repository.findAll(), generation,
+                        nanoClock.getAsLong());
+                // a load that started before a later write never replaces what was read after it
+                dictionary.accumulateAndGet(loaded,
+                        (current, candidate) -> current == null || candidate.generation() >= current.generation()
+                                ? candidate : current);
+                load.result().complete(loaded);
+                return loaded;
+            } catch (RuntimeException e) {
+                load.result().completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.compareAndSet(load, null);
+            }
+        }
+    }
+
+    private record Load(long generation, CompletableFuture<CategoryDictionary> result) {
+
+        CategoryDictionary await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
     }
 
 }
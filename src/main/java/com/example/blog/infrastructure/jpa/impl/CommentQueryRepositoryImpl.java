@@ -0,0 +1,89 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.application.query.CommentQueryRepository;
+import com.example.blog.application.query.PendingCommentDTO;
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.infrastructure.jpa.entity.CommentEntity;
+import com.example.blog.infrastructure.jpa.repository.CommentEntityRepository;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class CommentQueryRepositoryImpl implements CommentQueryRepository {
+
+    private final CommentEntityRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostDTO.CommentDTO> findByPostId(UUID postId, Cursor after, int size) {
+        // one extra row tells whether there is a next page without counting
+        List<CommentEntity> comments = after == null
+                ? repository.findFirstPagesByPostIdIn(List.of(postId), size + 1)
+                : repository.findByPostIdAfter(postId, after.createdAt(), after.id(), size + 1);
+
+        return toPage(comments, size, CommentQueryRepositoryImpl::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostDTO.CommentDTO> findApprovedByPostId(UUID postId, Cursor after, int size) {
+        List<CommentEntity> comments = after == null
+                ? repository.findFirstApproved(postId, size + 1)
+                : repository.findApprovedAfter(postId, after.createdAt(), after.id(), size + 1);
+
+        return toPage(comments, size, CommentQueryRepositoryImpl::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PendingCommentDTO> findPending(Cursor after, int size) {
+        List<CommentEntity> comments = after == null
+                ? repository.findFirstPending(size + 1)
+                : repository.findPendingAfter(after.createdAt(), after.id(), size + 1);
+
+        return toPage(comments, size, CommentQueryRepositoryImpl::toPendingDto);
+    }
+
+    private static <T> CursorPage<T> toPage(List<CommentEntity> comments, int size, Function<CommentEntity, T> mapper) {
+        boolean hasNext = comments.size() > size;
+        List<CommentEntity> page = hasNext ? comments.subList(0, size) : comments;
+
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            CommentEntity last = page.get(page.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, nextCursor);
+    }
+
+    private static PostDTO.CommentDTO toDto(CommentEntity comment) {
+        return new PostDTO.CommentDTO(
+                comment.getId(),
+                comment.getContent(),
+                comment.getCommenterId(),
+                comment.getApprovedAt() != null,
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                comment.getApprovedAt()
+        );
+    }
+
+    private static PendingCommentDTO toPendingDto(CommentEntity comment) {
+        return new PendingCommentDTO(
+                comment.getId(),
+                comment.getPostId(),
+                comment.getContent(),
+                comment.getCommenterId(),
+                comment.getCreatedAt()
+        );
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.CommentRepository;
+import com.example.blog.domain.event.PostEvent;
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.ingest.CommentIngestionPipeline;
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import com.example.blog.infrastructure.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Appends through the {@link CommentIngestionPipeline} and moderates with one statement
+ * per call, passing the ids as an array. The join on {@code post} keeps the aggregate's
+ * rule that only comments of live, published posts change.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepository {
+
+    private static final String APPROVE_PENDING = """
+            update comment c set approved_at = ?, updated_at = ?
+            from post p
+            where c.id = any(?) and c.approved_at is null
+              and p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+            returning c.id, c.post_id
+            """;
+
+    private static final String DELETE_PENDING = """
+            delete from comment c
+            using post p
+            where c.id = any(?) and c.approved_at is null
+              and p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+            returning c.id, c.post_id
+            """;
+
+    private static final String SELECT_ON_UNPUBLISHED_POSTS = """
+            select c.id from comment c
+            join post p on p.id = c.post_id
+            where c.id = any(?) and (p.published_at is null or p.deleted_at is not null)
+            """;
+
+    private final CommentIngestionPipeline pipeline;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
+
+    @Override
+    public void append(PostId postId, Comment comment) {
+        pipeline.append(postId, comment);
+    }
+
+    @Override
+    @Transactional
+    public Set<CommentId> approveAll(Collection<CommentId> ids) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return moderate(ids, PostEvent.Type.COMMENT_APPROVED, connection -> {
+            PreparedStatement statement = connection.prepareStatement(APPROVE_PENDING);
+            statement.setTimestamp(1, now);
+            statement.setTimestamp(2, now);
+            statement.setArray(3, array(connection, ids));
+            return statement;
+        });
+    }
+
+    @Override
+    @Transactional
+    public Set<CommentId> rejectAll(Collection<CommentId> ids) {
+        return moderate(ids, PostEvent.Type.COMMENT_REMOVED, connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_PENDING);
+            statement.setArray(1, array(connection, ids));
+            return statement;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<CommentId> findOnUnpublishedPosts(Collection<CommentId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ON_UNPUBLISHED_POSTS);
+            statement.setArray(1, array(connection, ids));
+            return statement;
+        }, (rs, rowNum) -> CommentId.fromUUID(rs.getObject(1, UUID.class))));
+    }
+
+    private Set<CommentId> moderate(Collection<CommentId> ids, PostEvent.Type eventType,
+                                    PreparedStatementCreator statement) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        List<Moderated> rows = jdbcTemplate.query(statement,
+                (rs, rowNum) -> new Moderated(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)));
+        if (!rows.isEmpty()) {
+            outboxWriter.append(rows.stream()
+                    .map(row -> PostEvent.of(eventType, PostId.fromUUID(row.postId()), CommentId.fromUUID(row.commentId())))
+                    .toList());
+            eventPublisher.publishEvent(new CommentsChangedEvent(
+                    rows.stream().map(Moderated::postId).collect(Collectors.toCollection(HashSet::new))));
+        }
+        return rows.stream().map(row -> CommentId.fromUUID(row.commentId())).collect(Collectors.toSet());
+    }
+
+    private static Array array(Connection connection, Collection<CommentId> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.stream().map(CommentId::id).toArray());
+    }
+
+    private record Moderated(UUID commentId, UUID postId) {
+
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.domain.Post;
+import com.example.blog.infrastructure.jpa.entity.CommentEntity;
+import com.example.blog.infrastructure.jpa.entity.PostEntity;
+import com.example.blog.infrastructure.jpa.repository.CommentEntityRepository;
+import com.example.blog.infrastructure.jpa.repository.CommentEntityRepository.PostCommentCount;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles {@link Post} aggregates for a list of ids with a fixed number of queries,
+ * instead of initializing the lazy collections row by row. Each post comes with its
+ * comment count and only the first {@value #FIRST_COMMENT_PAGE_SIZE} comments.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostAggregateLoader {
+
+    public static final int FIRST_COMMENT_PAGE_SIZE = 20;
+
+    private final PostEntityRepository repository;
+    private final CommentEntityRepository commentRepository;
+
+    /**
+     * Loads the posts with the given ids, keeping the order of {@code ids}.
+     * Ids that no longer exist are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<Post> load(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, PostEntity> postsById = repository.findWithCategoriesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostEntity::getId, Function.identity()));
+        Map<UUID, List<CommentEntity>> commentsByPostId = commentRepository
+                .findFirstPagesByPostIdIn(ids, FIRST_COMMENT_PAGE_SIZE).stream()
+                .collect(Collectors.groupingBy(CommentEntity::getPostId));
+        Map<UUID, Long> commentCounts = commentRepository.countByPostIdIn(ids).stream()
+                .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCount));
+
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(post -> post.toDomain(commentsByPostId.getOrDefault(post.getId(), List.of()),
+                        commentCounts.getOrDefault(post.getId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * The comments of a post that {@link #load(List)} would load with it.
+     */
+    public List<CommentEntity> firstCommentPage(UUID postId) {
+        return commentRepository.findFirstPagesByPostIdIn(List.of(postId), FIRST_COMMENT_PAGE_SIZE);
+    }
+
+    /**
+     * The comment count of a post that {@link #load(List)} would load with it.
+     */
+    public long commentCount(UUID postId) {
+        return commentRepository.countByPostId(postId);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Inserts posts with one statement per table, passing every column as an array and
+ * expanding them with {@code unnest}, instead of one statement (or batch entry) per row.
+ * Must run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostBulkInserter {
+
+    private static final String INSERT_POSTS = """
+            insert into post (id, title, content, author_id, created_at, slug, published_at, updated_at, deleted_at)
+            select * from unnest(?::uuid[], ?::text[], ?::text[], ?::text[], ?::timestamp[], ?::text[],
+                                 ?::timestamp[], ?::timestamp[], ?::timestamp[])
+            on conflict do nothing
+            returning id
+            """;
+
+    private static final String INSERT_POST_CATEGORIES = """
+            insert into post_category (post_id, category_id)
+            select * from unnest(?::uuid[], ?::uuid[])
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the ids of the inserted posts; posts conflicting with an existing row are skipped
+     */
+    public Set<UUID> insert(List<Post> posts) {
+        Set<UUID> inserted = new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_POSTS);
+            statement.setArray(1, array(connection, "uuid", posts.stream().map(post -> post.getId().id())));
+            statement.setArray(2, array(connection, "text", posts.stream().map(Post::getTitle)));
+            statement.setArray(3, array(connection, "text", posts.stream().map(Post::getContent)));
+            statement.setArray(4, array(connection, "text", posts.stream().map(post -> post.getAuthor().id())));
+            statement.setArray(5, array(connection, "timestamp", posts.stream().map(post -> timestamp(post.getCreatedAt()))));
+            statement.setArray(6, array(connection, "text", posts.stream().map(Post::getSlug)));
+            statement.setArray(7, array(connection, "timestamp", posts.stream().map(post -> timestamp(post.getPublishedAt()))));
+            statement.setArray(8, array(connection, "timestamp", posts.stream().map(post -> timestamp(post.getUpdatedAt()))));
+            statement.setArray(9, array(connection, "timestamp", posts.stream().map(post -> timestamp(post.getDeletedAt()))));
+            return statement;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+
+        List<UUID> postIds = new ArrayList<>();
+        List<UUID> categoryIds = new ArrayList<>();
+        for (Post post : posts) {
+            if (!inserted.contains(post.getId().id())) {
+                continue;
+            }
+            for (Category category : post.getCategories()) {
+                postIds.add(post.getId().id());
+                categoryIds.add(category.getId().id());
+            }
+        }
+        if (!postIds.isEmpty()) {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_POST_CATEGORIES);
+                statement.setArray(1, array(connection, "uuid", postIds.stream()));
+                statement.setArray(2, array(connection, "uuid", categoryIds.stream()));
+                return statement;
+            });
+        }
+        return inserted;
+    }
+
+    private static Array array(Connection connection, String type, Stream<?> values) throws SQLException {
+        return connection.createArrayOf(type, values.toArray());
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+}
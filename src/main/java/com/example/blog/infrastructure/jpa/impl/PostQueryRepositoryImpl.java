@@ -0,0 +1,252 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.application.query.CommentQueryRepository;
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostExportDTO;
+import com.example.blog.application.query.PostQueryRepository;
+import com.example.blog.application.query.PostSearchResultDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.application.query.PostVersionDTO;
+import com.example.blog.infrastructure.jpa.exception.ResourceNotFoundException;
+import com.example.blog.infrastructure.jpa.projection.PostSearchHitView;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import com.example.blog.utils.CursorPage;
+import com.example.blog.utils.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+@Component
+public class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    // rows per round trip while exporting; the postgres driver only uses a cursor
+    // (instead of buffering the whole result) inside a transaction
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    // walks idx_post_live_created_at_id, so the scan needs no sort
+    private static final String EXPORT_POSTS = """
+            select p.id, p.title, p.slug, p.content, p.author_id, p.created_at, p.updated_at, p.published_at,
+                   array(select pc.category_id from post_category pc where pc.post_id = p.id) as category_ids
+            from post p
+            where p.deleted_at is null
+            order by p.created_at, p.id
+            """;
+
+    // post_view is maintained by PostViewProjector; walks idx_post_view_live_created_at_id
+    private static final String SELECT_SUMMARIES = """
+            select id, title, slug, author_id, category_names, comment_count, approved_comment_count,
+                   last_comment_at, created_at, updated_at, published_at, deleted_at
+            from post_view
+            where deleted_at is null
+            order by created_at, id
+            limit ? offset ?
+            """;
+
+    private static final String COUNT_SUMMARIES = "select count(*) from post_view where deleted_at is null";
+
+    private static final String SELECT_POST = """
+            select id, title, slug, content, author_id, category_ids, category_names, comment_count,
+                   created_at, updated_at, published_at, deleted_at
+            from post_view
+            where id = ? and deleted_at is null
+            """;
+
+    private static final String SELECT_VERSION =
+            "select id, version, modified_at from post_view where id = ? and deleted_at is null";
+
+    // answered from idx_post_view_published_slug
+    private static final String SELECT_PUBLISHED_VERSION = """
+            select id, version, modified_at from post_view
+            where slug = ? and published_at is not null and deleted_at is null
+            """;
+
+    // versions come from one sequence, so the versions of the page in order identify both
+    // its posts and their state; the total is part of every page
+    private static final String SELECT_PAGE_VERSION = """
+            select md5((select count(*) from post_view where deleted_at is null) || ':' ||
+                       array(select version from post_view
+                             where deleted_at is null
+                             order by created_at, id
+                             limit ? offset ?)::text) as tag,
+                   (select max(modified_at) from post_view) as modified_at
+            """;
+
+    private final PostEntityRepository repository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+
+    public PostQueryRepositoryImpl(PostEntityRepository repository, CommentQueryRepository commentQueryRepository,
+                                   DataSource dataSource) {
+        this.repository = repository;
+        this.commentQueryRepository = commentQueryRepository;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+
+    @Override
+    public Page<PostSummaryDTO> findAllSummaries(int page, int size) {
+        List<PostSummaryDTO> summaries = jdbcTemplate.query(SELECT_SUMMARIES,
+                (rs, rowNum) -> toSummaryDto(rs), size, (long) page * size);
+        Long total = jdbcTemplate.queryForObject(COUNT_SUMMARIES, Long.class);
+
+        return Page.of(summaries, page, size, total == null ? 0 : total);
+    }
+
+    @Override
+    public PostDTO findById(UUID id) {
+        PostDTO post = jdbcTemplate.query(SELECT_POST, rs -> rs.next() ? toDto(rs) : null, id);
+        if (post == null) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        // the comments are paged from the comment table, the view only carries their counts
+        CursorPage<PostDTO.CommentDTO> comments =
+                commentQueryRepository.findByPostId(id, null, PostAggregateLoader.FIRST_COMMENT_PAGE_SIZE);
+        return new PostDTO(post.id(), post.title(), post.content(), post.authorId(), post.categories(),
+                comments.content(), post.commentCount(), comments.nextCursor(), post.slug(),
+                post.createdAt(), post.updatedAt(), post.isPublished(), post.isDeleted(), post.deletedAt());
+    }
+
+    @Override
+    public PostVersionDTO findVersion(UUID id) {
+        PostVersionDTO version = jdbcTemplate.query(SELECT_VERSION, rs -> rs.next() ? toVersionDto(rs) : null, id);
+        if (version == null) {
+            throw new ResourceNotFoundException(id);
+        }
+        return version;
+    }
+
+    @Override
+    public PostVersionDTO findPublishedVersion(String slug) {
+        PostVersionDTO version = jdbcTemplate.query(SELECT_PUBLISHED_VERSION,
+                rs -> rs.next() ? toVersionDto(rs) : null, slug);
+        if (version == null) {
+            throw new ResourceNotFoundException(slug);
+        }
+        return version;
+    }
+
+    @Override
+    public PostVersionDTO findPageVersion(int page, int size) {
+        return jdbcTemplate.queryForObject(SELECT_PAGE_VERSION, (rs, rowNum) -> new PostVersionDTO(
+                null,
+                rs.getString("tag"),
+                rs.getObject("modified_at", LocalDateTime.class)), size, (long) page * size);
+    }
+
+    @Override
+    public Page<PostSearchResultDTO> search(String keyword, boolean deleted, int page, int size) {
+        org.springframework.data.domain.Page<PostSearchHitView> hitPage =
+                repository.searchHits(keyword, deleted, PageRequest.of(page, size));
+
+        return Page.of(hitPage.getContent(), page, size, hitPage.getTotalElements())
+                .map(this::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<PostExportDTO> consumer) {
+        RowCallbackHandler handler = rs -> consumer.accept(toExportDto(rs));
+        exportJdbcTemplate.query(EXPORT_POSTS, handler);
+    }
+
+    private static PostVersionDTO toVersionDto(ResultSet rs) throws SQLException {
+        return new PostVersionDTO(rs.getObject("id", UUID.class), Long.toString(rs.getLong("version")),
+                rs.getObject("modified_at", LocalDateTime.class));
+    }
+
+    private PostSummaryDTO toSummaryDto(ResultSet rs) throws SQLException {
+        return new PostSummaryDTO(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("slug"),
+                rs.getString("author_id"),
+                List.of((String[]) rs.getArray("category_names").getArray()),
+                rs.getLong("comment_count"),
+                rs.getLong("approved_comment_count"),
+                rs.getObject("last_comment_at", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("published_at") != null,
+                rs.getObject("deleted_at") != null
+        );
+    }
+
+    private PostDTO toDto(ResultSet rs) throws SQLException {
+        UUID[] categoryIds = (UUID[]) rs.getArray("category_ids").getArray();
+        String[] categoryNames = (String[]) rs.getArray("category_names").getArray();
+        List<PostDTO.CategoryDTO> categories = new ArrayList<>(categoryIds.length);
+        for (int i = 0; i < categoryIds.length; i++) {
+            categories.add(new PostDTO.CategoryDTO(categoryIds[i], categoryNames[i]));
+        }
+
+        LocalDateTime deletedAt = rs.getObject("deleted_at", LocalDateTime.class);
+        return new PostDTO(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getString("author_id"),
+                categories,
+                List.of(),
+                rs.getLong("comment_count"),
+                null,
+                rs.getString("slug"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getObject("published_at") != null,
+                deletedAt != null,
+                deletedAt
+        );
+    }
+
+    private PostSearchResultDTO toDto(PostSearchHitView hit) {
+        return new PostSearchResultDTO(
+                hit.getId(),
+                hit.getTitle(),
+                hit.getSlug(),
+                hit.getAuthorId(),
+                hit.getRank(),
+                hit.getTitleHighlight(),
+                hit.getSnippet(),
+                hit.getCreatedAt(),
+                hit.getPublishedAt() != null,
+                hit.getDeletedAt() != null
+        );
+    }
+
+    private PostExportDTO toExportDto(ResultSet rs) throws SQLException {
+        Array categoryIds = rs.getArray("category_ids");
+        try {
+            return new PostExportDTO(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("title"),
+                    rs.getString("slug"),
+                    rs.getString("content"),
+                    rs.getString("author_id"),
+                    Arrays.asList((UUID[]) categoryIds.getArray()),
+                    rs.getObject("created_at", LocalDateTime.class),
+                    rs.getObject("updated_at", LocalDateTime.class),
+                    rs.getObject("published_at", LocalDateTime.class)
+            );
+        } finally {
+            categoryIds.free();
+        }
+    }
+
+}
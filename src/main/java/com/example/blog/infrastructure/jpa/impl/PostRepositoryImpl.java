@@ -1,65 +1,179 @@
 package com.example.blog.infrastructure.jpa.impl;
 
+import com.example.blog.domain.Comment;
 import com.example.blog.domain.Post;
 import com.example.blog.domain.PostRepository;
 import com.example.blog.domain.valueobject.CategoryId;
+import com.example.blog.domain.valueobject.CommentId;
 import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.cache.PostSlugCache;
+import com.example.blog.infrastructure.cache.PostStatusCache;
+import com.example.blog.infrastructure.jpa.entity.CategoryEntity;
+import com.example.blog.infrastructure.jpa.entity.CommentEntity;
 import com.example.blog.infrastructure.jpa.entity.PostEntity;
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
 import com.example.blog.infrastructure.jpa.exception.ResourceNotFoundException;
+import com.example.blog.infrastructure.jpa.repository.CommentEntityRepository;
 import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import com.example.blog.infrastructure.outbox.OutboxWriter;
+import com.example.blog.infrastructure.search.PostSearchEngine;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepository {
 
     private final PostEntityRepository repository;
+    private final CommentEntityRepository commentRepository;
+    private final PostAggregateLoader loader;
+    private final PostBulkInserter bulkInserter;
+    private final PostSearchEngine searchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final PostStatusCache statusCache;
+    private final PostSlugCache slugCache;
+    private final SlugAllocator slugAllocator;
+    private final OutboxWriter outboxWriter;
 
     @Override
     public Post findById(PostId id) {
-        PostEntity post = repository.findByIdAndDeletedAtIsNull(id.id())
-                .orElseThrow(() -> new ResourceNotFoundException(id.id()));
-        return post.toDomain();
+        PostEntity post = findEntity(id);
+        return post.toDomain(loader.firstCommentPage(post.getId()), loader.commentCount(post.getId()));
+    }
+
+    @Override
+    public Post findById(PostId id, CommentId commentId) {
+        PostEntity post = findEntity(id);
+        List<CommentEntity> comments = new ArrayList<>(loader.firstCommentPage(post.getId()));
+        if (comments.stream().noneMatch(comment -> comment.getId().equals(commentId.id()))) {
+            commentRepository.findByIdAndPostId(commentId.id(), post.getId()).ifPresent(comments::add);
+        }
+        return post.toDomain(comments, loader.commentCount(post.getId()));
     }
 
+    /**
+     * New posts are persisted as is. Existing ones are diffed against their managed entity
+     * (already in the persistence context when the post was loaded in the same transaction),
+     * so an edit only flushes the changed columns, category links and comments. Only the
+     * comments loaded into the aggregate are written; the others are never read. The events
+     * the post raised go to the outbox in the same transaction.
+     * <p>
+     * A new or changed slug that another post already has is replaced with a free variant
+     * of it, see {@link SlugAllocator}.
+     */
     @Override
+    @Transactional
     public void save(Post post) {
-        PostEntity postEntity = PostEntity.fromDomain(post);
-        repository.save(postEntity);
+        PostEntity postEntity = entityManager.find(PostEntity.class, post.getId().id());
+        if (postEntity == null || !post.getSlug().equals(postEntity.getSlug())) {
+            post.assignSlug(slugAllocator.allocate(post.getSlug(), post.getId().id()));
+        }
+        if (postEntity == null) {
+            postEntity = PostEntity.fromDomain(post);
+            postEntity.setCategories(postEntity.getCategories().stream()
+                    .map(category -> categoryReference(category.getId()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+            entityManager.persist(postEntity);
+        } else {
+            postEntity.updateFrom(post, this::categoryReference);
+        }
+        saveComments(post);
+        outboxWriter.append(post.getEvents());
+        post.clearEvents();
+        eventPublisher.publishEvent(new PostSavedEvent(
+                post.getId().id(), post.getTitle(), post.getSlug(), post.getContent(), post.getDeletedAt()));
     }
 
+    /**
+     * Resolves the slug through {@link PostSlugCache}, so only the post itself is read. A
+     * cached id that no longer matches (the post was unpublished meanwhile, maybe by another
+     * instance) is dropped and the slug resolved once more.
+     */
     @Override
-    public com.example.blog.utils.Page<Post> search(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<PostEntity> postPageJpa =
-                repository.findByContentContainingAndDeletedAtIsNull(keyword, pageable);
-        com.example.blog.utils.Page<PostEntity> postEntityPage = com.example.blog.utils.Page.of(
-                postPageJpa.getContent(),
-                page,
-                size,
-                postPageJpa.getTotalElements()
-        );
+    @Transactional(readOnly = true)
+    public Post findPublishedBySlug(String slug) {
+        PostEntity post = slugCache.resolve(slug).map(id -> findPublished(id, slug)).orElse(null);
+        if (post == null) {
+            slugCache.invalidate(slug);
+            post = slugCache.resolve(slug).map(id -> findPublished(id, slug))
+                    .orElseThrow(() -> new ResourceNotFoundException(slug));
+        }
+        return post.toDomain(commentRepository.findFirstApproved(post.getId(), PostAggregateLoader.FIRST_COMMENT_PAGE_SIZE),
+                commentRepository.countApproved(post.getId()));
+    }
 
-        return postEntityPage.map(PostEntity::toDomain);
+    @Override
+    public boolean isPublished(PostId id) {
+        return statusCache.isPublished(id.id());
+    }
+
+    @Override
+    @Transactional
+    public Set<PostId> insertAll(List<Post> posts) {
+        Set<UUID> inserted = bulkInserter.insert(posts);
+        List<Post> insertedPosts = posts.stream()
+                .filter(post -> inserted.contains(post.getId().id()))
+                .toList();
+        outboxWriter.append(insertedPosts.stream().flatMap(post -> post.getEvents().stream()).toList());
+        insertedPosts.forEach(post -> {
+            post.clearEvents();
+            eventPublisher.publishEvent(new PostSavedEvent(
+                    post.getId().id(), post.getTitle(), post.getSlug(), post.getContent(), post.getDeletedAt()));
+        });
+        return inserted.stream().map(PostId::fromUUID).collect(Collectors.toSet());
+    }
+
+    @Override
+    public com.example.blog.utils.Page<Post> search(String keyword, int page, int size) {
+        return searchPosts(keyword, false, page, size);
     }
 
     @Override
     public com.example.blog.utils.Page<Post> findAll(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<PostEntity> postPageJpa =
-                repository.findByDeletedAtIsNull(pageable);
+        Page<UUID> idPage = repository.findIdsByDeletedAtIsNull(pageable);
 
-        com.example.blog.utils.Page<PostEntity> postEntityPage = com.example.blog.utils.Page.of(
-                postPageJpa.getContent(),
+        return com.example.blog.utils.Page.of(
+                loader.load(idPage.getContent()),
                 page,
                 size,
-                postPageJpa.getTotalElements()
+                idPage.getTotalElements()
         );
-        return postEntityPage.map(PostEntity::toDomain);
+    }
+
+    @Override
+    public CursorPage<Post> findAll(Cursor after, int size) {
+        // one extra id tells whether there is a next page without counting
+        List<UUID> ids = after == null
+                ? repository.findFirstLiveIds(size + 1)
+                : repository.findLiveIdsAfter(after.createdAt(), after.id(), size + 1);
+
+        boolean hasNext = ids.size() > size;
+        List<Post> posts = loader.load(hasNext ? ids.subList(0, size) : ids);
+
+        String nextCursor = null;
+        if (hasNext && !posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId().id()).encode();
+        }
+        return new CursorPage<>(posts, size, nextCursor);
     }
 
     @Override
@@ -69,32 +183,74 @@ public class PostRepositoryImpl implements PostRepository {
 
 	@Override
 	public com.example.blog.utils.Page<Post> searchDeletedPosts(String keyword, int page, int size) {
-		Pageable pageable = PageRequest.of(page, size);
-        Page<PostEntity> postPageJpa =
-                repository.findByContentContainingAndDeletedAtIsNotNull(keyword, pageable);
-        com.example.blog.utils.Page<PostEntity> postEntityPage = com.example.blog.utils.Page.of(
-                postPageJpa.getContent(),
-                page,
-                size,
-                postPageJpa.getTotalElements()
-        );
-
-        return postEntityPage.map(PostEntity::toDomain);
+		return searchPosts(keyword, true, page, size);
 	}
 
 	@Override
 	public com.example.blog.utils.Page<Post> findAllDeletedPosts(int page, int size) {
 		Pageable pageable = PageRequest.of(page, size);
-        Page<PostEntity> postPageJpa =
-                repository.findByDeletedAtIsNotNull(pageable);
+        Page<UUID> idPage = repository.findIdsByDeletedAtIsNotNull(pageable);
 
-        com.example.blog.utils.Page<PostEntity> postEntityPage = com.example.blog.utils.Page.of(
-                postPageJpa.getContent(),
+        return com.example.blog.utils.Page.of(
+                loader.load(idPage.getContent()),
                 page,
                 size,
-                postPageJpa.getTotalElements()
+                idPage.getTotalElements()
         );
-        return postEntityPage.map(PostEntity::toDomain);
 	}
 
+    private PostEntity findPublished(UUID id, String slug) {
+        return repository.findById(id)
+                .filter(post -> slug.equals(post.getSlug()) && post.getPublishedAt() != null && post.getDeletedAt() == null)
+                .orElse(null);
+    }
+
+    private PostEntity findEntity(PostId id) {
+        return repository.findByIdAndDeletedAtIsNull(id.id())
+                .orElseThrow(() -> new ResourceNotFoundException(id.id()));
+    }
+
+    private void saveComments(Post post) {
+        UUID postId = post.getId().id();
+        if (!post.getRemovedCommentIds().isEmpty()) {
+            commentRepository.deleteByPostIdAndIdIn(postId,
+                    post.getRemovedCommentIds().stream().map(CommentId::id).toList());
+        }
+
+        List<Comment> comments = post.getComments();
+        if (comments.isEmpty()) {
+            return;
+        }
+        // comments loaded in this transaction are resolved from the persistence context,
+        // the rest (new ones, or loaded elsewhere) with a single select
+        List<CommentEntity> managed = entityManager.unwrap(Session.class)
+                .byMultipleIds(CommentEntity.class)
+                .enableSessionCheck(true)
+                .multiLoad(comments.stream().map(comment -> comment.getId().id()).toList());
+        for (int i = 0; i < comments.size(); i++) {
+            CommentEntity entity = managed.get(i);
+            if (entity == null) {
+                entityManager.persist(CommentEntity.fromDomain(postId, comments.get(i)));
+            } else {
+                entity.updateFrom(comments.get(i));
+            }
+        }
+    }
+
+    private CategoryEntity categoryReference(UUID id) {
+        return entityManager.getReference(CategoryEntity.class, id);
+    }
+
+    private com.example.blog.utils.Page<Post> searchPosts(String keyword, boolean deleted, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<UUID> idPage = searchEngine.searchIds(keyword, deleted, pageable);
+
+        return com.example.blog.utils.Page.of(
+                loader.load(idPage.getContent()),
+                page,
+                size,
+                idPage.getTotalElements()
+        );
+    }
+
 }
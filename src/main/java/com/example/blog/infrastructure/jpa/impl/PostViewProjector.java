@@ -0,0 +1,220 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.infrastructure.jpa.event.CategorySavedEvent;
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@code post_view} in step with the normalized tables.
+ * <p>
+ * Posts written in a transaction are collected and their rows rebuilt with one statement
+ * just before it commits, so the view changes atomically with them; writes outside of a
+ * transaction, like the comment ingestion batches, get a transaction of their own. The
+ * post rows are locked first, so that two transactions touching the same post rebuild
+ * its row one after the other, the second one seeing what the first committed.
+ * <p>
+ * Each rebuild gives the row a new {@code version} and {@code modified_at}, the validators
+ * of conditional GETs. The clock is read under the row lock rather than at the start of
+ * the transaction, so neither goes backwards for a post.
+ * <p>
+ * A refresh of its own runs after the write it follows is committed, so its failure must
+ * not reach the writer: it is retried, and if it keeps failing the posts are kept and
+ * refreshed along with the next refresh that commits.
+ */
+@Slf4j
+@Component
+public class PostViewProjector {
+
+    private static final String LOCK_POSTS = "select id from post where id = any(?) order by id for no key update";
+
+    private static final String REFRESH_POSTS = """
+            insert into post_view (id, title, slug, content, author_id, created_at, updated_at, published_at, deleted_at,
+                                   category_ids, category_names, comment_count, approved_comment_count, last_comment_at,
+                                   version, modified_at)
+            select p.id, p.title, p.slug, p.content, p.author_id, p.created_at, p.updated_at, p.published_at, p.deleted_at,
+                   coalesce(cat.ids, '{}'), coalesce(cat.names, '{}'), com.total, com.approved, com.last_at,
+                   nextval('post_view_version_seq'), clock_timestamp()::timestamp
+            from post p
+            left join lateral (
+                select array_agg(c.id order by c.name, c.id) as ids, array_agg(c.name order by c.name, c.id) as names
+                from post_category pc join category c on c.id = pc.category_id
+                where pc.post_id = p.id
+            ) cat on true
+            left join lateral (
+                select count(*) as total, count(c.approved_at) as approved, max(c.created_at) as last_at
+                from comment c
+                where c.post_id = p.id
+            ) com on true
+            where p.id = any(?)
+            on conflict (id) do update set
+                title = excluded.title, slug = excluded.slug, content = excluded.content,
+                author_id = excluded.author_id, created_at = excluded.created_at, updated_at = excluded.updated_at,
+                published_at = excluded.published_at, deleted_at = excluded.deleted_at,
+                category_ids = excluded.category_ids, category_names = excluded.category_names,
+                comment_count = excluded.comment_count, approved_comment_count = excluded.approved_comment_count,
+                last_comment_at = excluded.last_comment_at,
+                version = excluded.version, modified_at = excluded.modified_at
+            """;
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private static final String SELECT_POSTS_BY_CATEGORIES = "select post_id from post_category where category_id = any(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> failedPostIds = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> failedCategoryIds = ConcurrentHashMap.newKeySet();
+
+    public PostViewProjector(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onPostSaved(PostSavedEvent event) {
+        enqueue(List.of(event.id()), List.of());
+    }
+
+    @EventListener
+    public void onCommentsChanged(CommentsChangedEvent event) {
+        enqueue(event.postIds(), List.of());
+    }
+
+    /**
+     * A renamed category changes the rows of all of its posts.
+     */
+    @EventListener
+    public void onCategorySaved(CategorySavedEvent event) {
+        enqueue(event.postIds(), List.of(event.id()));
+    }
+
+    private void enqueue(Collection<UUID> postIds, Collection<UUID> categoryIds) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            refreshOnItsOwn(postIds, categoryIds);
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.postIds.addAll(postIds);
+        pending.categoryIds.addAll(categoryIds);
+    }
+
+    private void refreshOnItsOwn(Collection<UUID> postIds, Collection<UUID> categoryIds) {
+        Set<UUID> posts = new HashSet<>(postIds);
+        Set<UUID> categories = new HashSet<>(categoryIds);
+        posts.addAll(failedPostIds);
+        categories.addAll(failedCategoryIds);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> refresh(posts, categories));
+                failedPostIds.removeAll(posts);
+                failedCategoryIds.removeAll(categories);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    keepForLater(posts, categories);
+                    log.error("Could not refresh the view of {} posts and {} categories after {} attempts, "
+                            + "keeping them for the next refresh", posts.size(), categories.size(), attempt, e);
+                    return;
+                }
+                log.warn("Refreshing the view of {} posts failed, retrying ({} of {}): {}",
+                        posts.size(), attempt, MAX_ATTEMPTS, e.toString());
+            }
+            try {
+                Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                keepForLater(posts, categories);
+                return;
+            }
+        }
+    }
+
+    private void keepForLater(Set<UUID> postIds, Set<UUID> categoryIds) {
+        failedPostIds.addAll(postIds);
+        failedCategoryIds.addAll(categoryIds);
+    }
+
+    private void refresh(Collection<UUID> postIds, Collection<UUID> categoryIds) {
+        Set<UUID> ids = new HashSet<>(postIds);
+        if (!categoryIds.isEmpty()) {
+            ids.addAll(jdbcTemplate.query(connection -> statement(connection, SELECT_POSTS_BY_CATEGORIES, categoryIds),
+                    (rs, rowNum) -> rs.getObject(1, UUID.class)));
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(connection -> statement(connection, LOCK_POSTS, ids), rs -> {
+        });
+        jdbcTemplate.update(connection -> statement(connection, REFRESH_POSTS, ids));
+    }
+
+    private static PreparedStatement statement(Connection connection, String sql, Collection<UUID> ids)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        Array array = connection.createArrayOf("uuid", ids.toArray());
+        statement.setArray(1, array);
+        return statement;
+    }
+
+    private final class Pending implements TransactionSynchronization {
+
+        final Set<UUID> postIds = new HashSet<>();
+        final Set<UUID> categoryIds = new HashSet<>();
+        // left over from failed refreshes, only forgotten once this transaction commits
+        final Set<UUID> retriedPostIds = new HashSet<>();
+        final Set<UUID> retriedCategoryIds = new HashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // the native statements only see what Hibernate has flushed
+            entityManager.flush();
+            retriedPostIds.addAll(failedPostIds);
+            retriedCategoryIds.addAll(failedCategoryIds);
+            Set<UUID> posts = new HashSet<>(postIds);
+            Set<UUID> categories = new HashSet<>(categoryIds);
+            posts.addAll(retriedPostIds);
+            categories.addAll(retriedCategoryIds);
+            refresh(posts, categories);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PostViewProjector.this);
+            if (status == STATUS_COMMITTED) {
+                failedPostIds.removeAll(retriedPostIds);
+                failedCategoryIds.removeAll(retriedCategoryIds);
+            }
+        }
+
+    }
+
+}
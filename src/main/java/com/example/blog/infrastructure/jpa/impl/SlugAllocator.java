@@ -0,0 +1,65 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Finds a slug no other post has: the given slug if it is free, else the lowest free one
+ * of {@code slug-2}, {@code slug-3} and so on. The taken ones are read in a single range
+ * scan of {@code idx_post_slug_prefix}.
+ * <p>
+ * Only committed posts (and those flushed by the current transaction) are seen, so two
+ * transactions creating the same title at the same time can still collide; the second
+ * one to commit then fails on the constraint as before.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlugAllocator {
+
+    static final int MAX_SUFFIX = 1000;
+    private static final int MAX_SUFFIX_DIGITS = String.valueOf(MAX_SUFFIX).length();
+
+    /**
+     * The slug and its numbered variants held by other posts. Public for the query plan test.
+     */
+    public static final String FIND_TAKEN_SLUGS = """
+            select slug from post
+            where (slug = ? or slug like ? and substr(slug, ?) ~ '^[1-9][0-9]*$') and id <> ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param postId the post the slug is for, which may already hold it
+     */
+    public String allocate(String slug, UUID postId) {
+        // slugs are made of letters, digits and '-' only, so they need no escaping in the pattern
+        List<String> taken = jdbcTemplate.queryForList(FIND_TAKEN_SLUGS, String.class,
+                slug, slug + "-%", slug.length() + 2, postId);
+        BitSet takenSuffixes = new BitSet(MAX_SUFFIX + 1);
+        for (String other : taken) {
+            int suffix = other.equals(slug) ? 1 : suffixOf(other, slug.length() + 1);
+            if (suffix <= MAX_SUFFIX) {
+                takenSuffixes.set(suffix);
+            }
+        }
+        int suffix = takenSuffixes.nextClearBit(1);
+        if (suffix > MAX_SUFFIX) {
+            // the random tail of the id, unlike its time-ordered head
+            String id = postId.toString();
+            return slug + "-" + id.substring(id.length() - 12);
+        }
+        return suffix == 1 ? slug : slug + "-" + suffix;
+    }
+
+    private static int suffixOf(String slug, int start) {
+        // more digits than MAX_SUFFIX: out of range, and maybe too long to parse
+        return slug.length() - start > MAX_SUFFIX_DIGITS ? Integer.MAX_VALUE : Integer.parseInt(slug, start, slug.length(), 10);
+    }
+
+}
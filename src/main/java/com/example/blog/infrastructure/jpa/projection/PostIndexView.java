@@ -0,0 +1,13 @@
+package com.example.blog.infrastructure.jpa.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostIndexView(
+        UUID id,
+        String title,
+        String content,
+        LocalDateTime deletedAt
+) {
+
+}
@@ -0,0 +1,28 @@
+package com.example.blog.infrastructure.jpa.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PostSearchHitView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    String getAuthorId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getPublishedAt();
+
+    LocalDateTime getDeletedAt();
+
+    Float getRank();
+
+    String getTitleHighlight();
+
+    String getSnippet();
+
+}
@@ -2,6 +2,7 @@ package com.example.blog.infrastructure.jpa.repository;
 
 import com.example.blog.infrastructure.jpa.entity.CategoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -13,5 +14,6 @@ public interface CategoryEntityRepository extends JpaRepository<CategoryEntity,
 
     List<CategoryEntity> findByIdIn(Collection<UUID> ids);
 
-    boolean existsByName(String name);
+    @Query(value = "select post_id from post_category where category_id = :id", nativeQuery = true)
+    List<UUID> findPostIdsById(UUID id);
 }
@@ -2,10 +2,99 @@ package com.example.blog.infrastructure.jpa.repository;
 
 import com.example.blog.infrastructure.jpa.entity.CommentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CommentEntityRepository extends JpaRepository<CommentEntity, UUID> {
+
+    Optional<CommentEntity> findByIdAndPostId(UUID id, UUID postId);
+
+    // ==== keyset pages per post, seeking on idx_comment_post_created_at_id ====
+
+    // the first :limit comments of each post, without reading the rest of them
+    @Query(value = """
+            select c.* from post p
+            cross join lateral (
+                select * from comment
+                where post_id = p.id
+                order by created_at, id
+                limit :limit
+            ) c
+            where p.id in :postIds
+            order by c.post_id, c.created_at, c.id
+            """, nativeQuery = true)
+    List<CommentEntity> findFirstPagesByPostIdIn(Collection<UUID> postIds, int limit);
+
+    @Query(value = """
+            select c.* from comment c
+            where c.post_id = :postId and (c.created_at, c.id) > (:createdAt, :id)
+            order by c.created_at, c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<CommentEntity> findByPostIdAfter(UUID postId, LocalDateTime createdAt, UUID id, int limit);
+
+    // the first :limit approved comments of a post, for public reads
+    @Query(value = """
+            select c.* from comment c
+            where c.post_id = :postId and c.approved_at is not null
+            order by c.created_at, c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<CommentEntity> findFirstApproved(UUID postId, int limit);
+
+    @Query(value = """
+            select c.* from comment c
+            where c.post_id = :postId and c.approved_at is not null and (c.created_at, c.id) > (:createdAt, :id)
+            order by c.created_at, c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<CommentEntity> findApprovedAfter(UUID postId, LocalDateTime createdAt, UUID id, int limit);
+
+    long countByPostId(UUID postId);
+
+    @Query("select c.postId as postId, count(c) as count from CommentEntity c where c.postId in :postIds group by c.postId")
+    List<PostCommentCount> countByPostIdIn(Collection<UUID> postIds);
+
+    @Query(value = "select count(*) from comment c where c.post_id = :postId and c.approved_at is not null",
+            nativeQuery = true)
+    long countApproved(UUID postId);
+
+    // ==== moderation queue, seeking on the partial idx_comment_pending_created_at_id ====
+
+    @Query(value = """
+            select c.* from comment c
+            join post p on p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+            where c.approved_at is null
+            order by c.created_at, c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<CommentEntity> findFirstPending(int limit);
+
+    @Query(value = """
+            select c.* from comment c
+            join post p on p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+            where c.approved_at is null and (c.created_at, c.id) > (:createdAt, :id)
+            order by c.created_at, c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<CommentEntity> findPendingAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    @Modifying
+    @Query("delete from CommentEntity c where c.postId = :postId and c.id in :ids")
+    int deleteByPostIdAndIdIn(UUID postId, Collection<UUID> ids);
+
+    interface PostCommentCount {
+
+        UUID getPostId();
+
+        long getCount();
+    }
 }
@@ -1,24 +1,108 @@
 package com.example.blog.infrastructure.jpa.repository;
 
 import com.example.blog.infrastructure.jpa.entity.PostEntity;
+import com.example.blog.infrastructure.jpa.projection.PostIndexView;
+import com.example.blog.infrastructure.jpa.projection.PostSearchHitView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostEntityRepository extends JpaRepository<PostEntity, UUID> {
 
 	Optional<PostEntity> findByIdAndDeletedAtIsNull(UUID id);
 	
-    Page<PostEntity> findByContentContainingAndDeletedAtIsNull(String content, Pageable pageable);
-    Page<PostEntity> findByContentContainingAndDeletedAtIsNotNull(String content, Pageable pageable);
-    
     Page<PostEntity> findByDeletedAtIsNull(Pageable pageable);
     Page<PostEntity> findByDeletedAtIsNotNull(Pageable pageable);
     
     boolean existsByCategories_IdAndDeletedAtIsNull(UUID categoryId);
+
+    boolean existsByIdAndPublishedAtIsNotNullAndDeletedAtIsNull(UUID id);
+
+    // answered from uc_post_slug
+    @Query("select p.id from PostEntity p where p.slug = :slug and p.publishedAt is not null and p.deletedAt is null")
+    Optional<UUID> findPublishedIdBySlug(String slug);
+
+    // ==== two-phase fetch: page of ids first, then the aggregates in bulk ====
+
+    @Query(value = "select p.id from PostEntity p where p.deletedAt is null order by p.createdAt, p.id",
+            countQuery = "select count(p) from PostEntity p where p.deletedAt is null")
+    Page<UUID> findIdsByDeletedAtIsNull(Pageable pageable);
+
+    @Query(value = "select p.id from PostEntity p where p.deletedAt is not null order by p.deletedAt, p.id",
+            countQuery = "select count(p) from PostEntity p where p.deletedAt is not null")
+    Page<UUID> findIdsByDeletedAtIsNotNull(Pageable pageable);
+
+    @Query(value = """
+            select p.id from post p
+            where p.deleted_at is null
+            order by p.created_at, p.id
+            limit :limit
+            """, nativeQuery = true)
+    List<UUID> findFirstLiveIds(int limit);
+
+    // row-value comparison lets postgres seek on idx_post_live_created_at_id
+    @Query(value = """
+            select p.id from post p
+            where p.deleted_at is null and (p.created_at, p.id) > (:createdAt, :id)
+            order by p.created_at, p.id
+            limit :limit
+            """, nativeQuery = true)
+    List<UUID> findLiveIdsAfter(LocalDateTime createdAt, UUID id, int limit);
+
+    @Query("select p from PostEntity p left join fetch p.categories where p.id in :ids")
+    List<PostEntity> findWithCategoriesByIdIn(Collection<UUID> ids);
+
+    // ==== full-text search over post.search_vector (GIN indexed) ====
+
+    @Query(value = """
+            select p.id from post p, websearch_to_tsquery('simple', :keyword) q
+            where p.search_vector @@ q and (p.deleted_at is not null) = :deleted
+            order by ts_rank(p.search_vector, q) desc, p.id
+            """,
+            countQuery = """
+            select count(*) from post p
+            where p.search_vector @@ websearch_to_tsquery('simple', :keyword) and (p.deleted_at is not null) = :deleted
+            """,
+            nativeQuery = true)
+    Page<UUID> searchIds(String keyword, boolean deleted, Pageable pageable);
+
+    // ts_headline only runs for the rows of the requested page, after the sort and limit
+    @Query(value = """
+            select p.id as "id", p.title as "title", p.slug as "slug", p.author_id as "authorId",
+                   p.created_at as "createdAt", p.published_at as "publishedAt", p.deleted_at as "deletedAt",
+                   ts_rank(p.search_vector, q) as "rank",
+                   ts_headline('simple', p.title, q, 'HighlightAll=true') as "titleHighlight",
+                   ts_headline('simple', coalesce(p.content, ''), q, 'MaxFragments=2, MinWords=5, MaxWords=20') as "snippet"
+            from post p, websearch_to_tsquery('simple', :keyword) q
+            where p.search_vector @@ q and (p.deleted_at is not null) = :deleted
+            order by "rank" desc, p.id
+            """,
+            countQuery = """
+            select count(*) from post p
+            where p.search_vector @@ websearch_to_tsquery('simple', :keyword) and (p.deleted_at is not null) = :deleted
+            """,
+            nativeQuery = true)
+    Page<PostSearchHitView> searchHits(String keyword, boolean deleted, Pageable pageable);
+
+    // ==== streaming source for the in-memory search index ====
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.example.blog.infrastructure.jpa.projection.PostIndexView(p.id, p.title, p.content, p.deletedAt)
+            from PostEntity p
+            """)
+    Stream<PostIndexView> streamIndexViews();
 }
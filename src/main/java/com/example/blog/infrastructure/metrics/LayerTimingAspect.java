@@ -0,0 +1,55 @@
+package com.example.blog.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Times the application services and the domain repositories, per class and method, as
+ * {@code blog.service} and {@code blog.repository}. The services stay free of metrics
+ * annotations; repositories are timed at every implementation the call passes through,
+ * so a cached read shows up both at the caching repository and, on a miss, below it.
+ */
+@Aspect
+public class LayerTimingAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public LayerTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.example.blog.application.PostService.*(..))"
+            + " || execution(public * com.example.blog.application.PostQueryService.*(..))"
+            + " || execution(public * com.example.blog.application.CategoryService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("blog.service", joinPoint);
+    }
+
+    @Around("execution(* com.example.blog.domain.PostRepository.*(..))"
+            + " || execution(* com.example.blog.domain.CategoryRepository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("blog.repository", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+}
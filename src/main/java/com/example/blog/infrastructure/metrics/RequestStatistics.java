@@ -0,0 +1,66 @@
+package com.example.blog.infrastructure.metrics;
+
+/**
+ * Counts what the ORM does on behalf of the current request. Counting only happens
+ * between {@link #begin} and {@link #end} on the request's thread; work done on other
+ * threads, like the comment ingestion batches or a streamed export, is not attributed.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestStatistics() {
+    }
+
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void collectionFetched() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionFetches++;
+        }
+    }
+
+    public static final class Counts {
+
+        private long statements;
+        private long entityLoads;
+        private long collectionFetches;
+
+        public long statements() {
+            return statements;
+        }
+
+        public long entityLoads() {
+            return entityLoads;
+        }
+
+        public long collectionFetches() {
+            return collectionFetches;
+        }
+
+    }
+
+}
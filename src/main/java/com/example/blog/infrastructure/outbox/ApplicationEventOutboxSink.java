@@ -0,0 +1,22 @@
+package com.example.blog.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publishes every message as an application event, for in-process {@code @EventListener}s
+ * of {@link OutboxMessage}. Listeners run in the relay's transaction.
+ */
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+
+}
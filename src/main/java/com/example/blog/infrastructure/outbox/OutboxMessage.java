@@ -0,0 +1,13 @@
+package com.example.blog.infrastructure.outbox;
+
+import com.example.blog.domain.event.PostEvent;
+
+/**
+ * An event read back from the outbox.
+ *
+ * @param sequence increasing with the order the events were stored in; delivery is at
+ *                 least once, so sinks can use it to drop duplicates
+ */
+public record OutboxMessage(long sequence, PostEvent event) {
+
+}
@@ -0,0 +1,327 @@
+package com.example.blog.infrastructure.outbox;
+
+import com.example.blog.domain.event.PostEvent;
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.PostId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the {@link OutboxSink} on a single background thread, up to
+ * {@code blog.outbox.batch-size} events per transaction. Each batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED} and deleted in the transaction that delivers it, so
+ * relays of several instances share the work without blocking each other, and a failed
+ * delivery leaves the batch to be retried. Events are delivered at least once, in order
+ * within a batch; with more than one instance, batches may overtake each other.
+ * <p>
+ * When a batch fails, its events are delivered one per transaction instead, so that one
+ * bad event does not hold back the others. An event that fails on its own is retried
+ * after {@code blog.outbox.retry-backoff}, doubling with each attempt, and moved to
+ * {@code outbox_dead_letter} after {@code blog.outbox.max-attempts} attempts; the events
+ * after it are delivered meanwhile.
+ * <p>
+ * The relay is woken up by commits that write events, and polls every
+ * {@code blog.outbox.poll-interval} for those of other instances.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle, MeterBinder {
+
+    private static final long STOP_TIMEOUT_MILLIS = 30_000;
+
+    private static final int MAX_BACKOFF_DOUBLINGS = 10;
+
+    // events are only deleted once delivered, so a failed delivery leaves them as they were
+    private static final String CLAIM_BATCH = """
+            select id, event_type, post_id, comment_id, occurred_at from outbox
+            where next_attempt_at is null or next_attempt_at <= localtimestamp
+            order by id limit ? for update skip locked
+            """;
+
+    private static final String FIND_DUE = """
+            select id from outbox
+            where next_attempt_at is null or next_attempt_at <= localtimestamp
+            order by id limit ?
+            """;
+
+    private static final String CLAIM_ONE = """
+            select id, event_type, post_id, comment_id, occurred_at from outbox
+            where id = ? for update skip locked
+            """;
+
+    private static final String DELETE_DELIVERED = "delete from outbox where id = any(?)";
+
+    // attempts on the right-hand side is the count before this failure
+    private static final String RECORD_FAILURE = """
+            update outbox
+            set attempts = attempts + 1,
+                next_attempt_at = localtimestamp + ? * power(2, least(attempts, ?)) * interval '1 millisecond'
+            where id = ?
+            returning attempts
+            """;
+
+    private static final String MOVE_TO_DEAD_LETTER = """
+            with moved as (
+                delete from outbox where id = ?
+                returning id, event_type, post_id, comment_id, occurred_at, attempts
+            )
+            insert into outbox_dead_letter (id, event_type, post_id, comment_id, occurred_at, attempts, failed_at, error)
+            select id, event_type, post_id, comment_id, occurred_at, attempts, localtimestamp, ? from moved
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final boolean autoStartup;
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private volatile Timer batchTimer;
+    private volatile Timer lagTimer;
+
+    private volatile boolean running;
+    private Thread relayThread;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, OutboxSink sink,
+                       @Value("${blog.outbox.batch-size:100}") int batchSize,
+                       @Value("${blog.outbox.poll-interval:1s}") Duration pollInterval,
+                       @Value("${blog.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${blog.outbox.retry-backoff:1s}") Duration retryBackoff,
+                       @Value("${blog.outbox.relay.enabled:true}") boolean autoStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.autoStartup = autoStartup;
+    }
+
+    /**
+     * Makes the relay look for events now instead of at its next poll.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    /**
+     * Delivers one batch on the calling thread, falling back to one event per transaction
+     * if the batch fails.
+     *
+     * @return the number of events delivered
+     */
+    public int relayBatch() {
+        long start = System.nanoTime();
+        try {
+            List<OutboxMessage> batch = transactionTemplate.execute(
+                    status -> deliver(jdbcTemplate.query(CLAIM_BATCH, this::message, batchSize)));
+            delivered.addAndGet(batch.size());
+            recordLag(batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("Failed to deliver a batch of outbox events, delivering them one by one: {}", e.toString());
+            return relayOneByOne();
+        } finally {
+            Timer timer = batchTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private int relayOneByOne() {
+        int count = 0;
+        for (long id : jdbcTemplate.queryForList(FIND_DUE, Long.class, batchSize)) {
+            try {
+                // empty when another relay has taken it meanwhile
+                List<OutboxMessage> message = transactionTemplate.execute(
+                        status -> deliver(jdbcTemplate.query(CLAIM_ONE, this::message, id)));
+                delivered.addAndGet(message.size());
+                recordLag(message);
+                count += message.size();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                recordFailure(id, e);
+            }
+        }
+        return count;
+    }
+
+    private List<OutboxMessage> deliver(List<OutboxMessage> claimed) {
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+        sink.deliver(claimed);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_DELIVERED);
+            statement.setArray(1, connection.createArrayOf("bigint",
+                    claimed.stream().map(OutboxMessage::sequence).toArray()));
+            return statement;
+        });
+        return claimed;
+    }
+
+    private void recordFailure(long id, RuntimeException failure) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Integer> attempts = jdbcTemplate.queryForList(RECORD_FAILURE, Integer.class,
+                    retryBackoffMillis, MAX_BACKOFF_DOUBLINGS, id);
+            if (attempts.isEmpty()) {
+                return;
+            }
+            if (attempts.get(0) < maxAttempts) {
+                log.warn("Failed to deliver outbox event {} ({} of {} attempts)", id, attempts.get(0), maxAttempts,
+                        failure);
+                return;
+            }
+            jdbcTemplate.update(MOVE_TO_DEAD_LETTER, id, failure.toString());
+            deadLettered.incrementAndGet();
+            log.error("Moved outbox event {} to the dead letters after {} attempts", id, attempts.get(0), failure);
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        relayThread = new Thread(this::relay, "outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        try {
+            relayThread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Off with {@code blog.outbox.relay.enabled=false}, on read-only nodes; the relays of the
+     * other instances deliver what is in the outbox.
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    /**
+     * Stops after the web server, like the comment ingestion, so events of requests
+     * finishing during a graceful shutdown are relayed. Whatever is left stays in the
+     * outbox for the next start.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blog.outbox.events", delivered, AtomicLong::get)
+                .description("Events delivered to the outbox sink")
+                .register(registry);
+        FunctionCounter.builder("blog.outbox.failures", failed, AtomicLong::get)
+                .description("Events that failed to be delivered on their own and were left for a retry")
+                .register(registry);
+        FunctionCounter.builder("blog.outbox.dead-lettered", deadLettered, AtomicLong::get)
+                .description("Events moved to outbox_dead_letter after failing every attempt")
+                .register(registry);
+        batchTimer = Timer.builder("blog.outbox.batch")
+                .description("Time to claim and deliver one batch of events")
+                .register(registry);
+        lagTimer = Timer.builder("blog.outbox.lag")
+                .description("Time from an event occurring to its delivery")
+                .register(registry);
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                // a full batch means there is probably more waiting
+                if (relayBatch() < batchSize) {
+                    wakeUps.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to relay outbox events, retrying in {} ms", pollIntervalMillis, e);
+                sleep();
+            }
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void recordLag(List<OutboxMessage> batch) {
+        Timer timer = lagTimer;
+        if (timer == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : batch) {
+            timer.record(Duration.between(message.event().occurredAt(), now));
+        }
+    }
+
+    private OutboxMessage message(ResultSet rs, int rowNum) throws SQLException {
+        return new OutboxMessage(rs.getLong("id"), new PostEvent(
+                PostEvent.Type.valueOf(rs.getString("event_type")),
+                PostId.fromUUID(rs.getObject("post_id", UUID.class)),
+                commentId(rs.getObject("comment_id", UUID.class)),
+                rs.getObject("occurred_at", LocalDateTime.class)));
+    }
+
+    private static CommentId commentId(UUID id) {
+        return id == null ? null : CommentId.fromUUID(id);
+    }
+
+}
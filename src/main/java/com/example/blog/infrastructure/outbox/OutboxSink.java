@@ -0,0 +1,18 @@
+package com.example.blog.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Where {@link OutboxRelay} delivers the stored events. Declare a bean of this type to
+ * replace the default, which publishes them as application events.
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch in sequence order. Runs in the transaction that removes the batch
+     * from the outbox, so throwing leaves the whole batch there; its events are then
+     * delivered again one per call, and only those that keep failing are retried later.
+     */
+    void deliver(List<OutboxMessage> messages);
+
+}
@@ -0,0 +1,59 @@
+package com.example.blog.infrastructure.outbox;
+
+import com.example.blog.domain.event.PostEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores events in the outbox as part of the current transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT_EVENT =
+            "insert into outbox (event_type, post_id, comment_id, occurred_at) values (?, ?, ?, ?)";
+
+    private static final int[] INSERT_EVENT_TYPES = {Types.VARCHAR, Types.OTHER, Types.OTHER, Types.TIMESTAMP};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxRelay relay;
+
+    /**
+     * Must run in a transaction, so that the events are stored if and only if the change
+     * raising them is. The relay is woken up once the transaction commits.
+     */
+    public void append(Collection<PostEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("outbox events must be written in a transaction");
+        }
+
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[] {
+                        event.type().name(),
+                        event.postId().id(),
+                        event.commentId() == null ? null : event.commentId().id(),
+                        Timestamp.valueOf(event.occurredAt())})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows, INSERT_EVENT_TYPES);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.blog.infrastructure.search;
+
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import com.example.blog.infrastructure.jpa.projection.PostIndexView;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Serves post search from an {@link InvertedPostIndex} held in the JVM, for deployments
+ * that cannot rely on the Postgres full-text column. The index is built with one streaming
+ * pass over the post table at startup and kept current from {@link PostSavedEvent}s.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine implements PostSearchEngine, SmartInitializingSingleton {
+
+    private final PostEntityRepository repository;
+    private final PlatformTransactionManager transactionManager;
+    private final InvertedPostIndex index = new InvertedPostIndex();
+
+    @Override
+    public Page<UUID> searchIds(String keyword, boolean deleted, Pageable pageable) {
+        List<UUID> ids = index.search(keyword, deleted);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(ids.subList(from, to), pageable, ids.size());
+    }
+
+    /**
+     * Runs before the web server starts, so the index is complete before the first search.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        AtomicInteger count = new AtomicInteger();
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            try (Stream<PostIndexView> posts = repository.streamIndexViews()) {
+                // posts saved while the build runs are already indexed in their newer version
+                posts.forEach(post -> {
+                    index.addIfAbsent(post.id(), post.title(), post.content(), post.deletedAt() != null);
+                    count.incrementAndGet();
+                });
+            }
+        });
+
+        InvertedPostIndex.Stats stats = index.stats();
+        log.info("Indexed {} posts in {} ms: {} terms, {} postings, ~{} KiB (~{} bytes per post)",
+                count.get(), (System.nanoTime() - start) / 1_000_000, stats.terms(), stats.postings(),
+                stats.estimatedBytes() / 1024, stats.estimatedBytesPerPost());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostSaved(PostSavedEvent event) {
+        index.put(event.id(), event.title(), event.content(), event.deletedAt() != null);
+    }
+
+    public InvertedPostIndex.Stats stats() {
+        return index.stats();
+    }
+
+}
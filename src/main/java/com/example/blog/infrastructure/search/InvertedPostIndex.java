@@ -0,0 +1,317 @@
+package com.example.blog.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over post titles and contents.
+ * <p>
+ * Every indexed version of a post gets a new ordinal, so posting lists are append-only
+ * and stay sorted. A re-indexed or removed post only tombstones its old ordinal; the
+ * postings are compacted once dead ordinals outnumber live ones.
+ * <p>
+ * Terms are lower-cased runs of letters and digits (close to Postgres' {@code simple}
+ * configuration), and a query matches posts containing all of its terms. Title hits
+ * rank above content hits. Thread-safe.
+ */
+public class InvertedPostIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int MIN_DEAD_ORDINALS_TO_COMPACT = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> titlePostings = new HashMap<>();
+    private final Map<String, Postings> contentPostings = new HashMap<>();
+    private final Map<UUID, Integer> ordinalsById = new HashMap<>();
+    private final List<UUID> idsByOrdinal = new ArrayList<>();
+    // ordinals holding the current version of a post
+    private final BitSet live = new BitSet();
+    // ordinals of soft-deleted posts
+    private final BitSet deleted = new BitSet();
+
+    /**
+     * Indexes the post unless it is already present. Used by the initial build so that
+     * a newer version indexed concurrently is not overwritten by an older snapshot.
+     *
+     * @return {@code true} if the post was added
+     */
+    public boolean addIfAbsent(UUID id, String title, String content, boolean isDeleted) {
+        lock.writeLock().lock();
+        try {
+            if (ordinalsById.containsKey(id)) {
+                return false;
+            }
+            append(id, title, content, isDeleted);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the post, replacing any previous version of it.
+     */
+    public void put(UUID id, String title, String content, boolean isDeleted) {
+        lock.writeLock().lock();
+        try {
+            tombstone(id);
+            append(id, title, content, isDeleted);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            tombstone(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all posts matching every term of {@code query}, best match first.
+     * Ties are broken by id, like the Postgres search.
+     */
+    public List<UUID> search(String query, boolean isDeleted) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            for (String term : terms) {
+                int[] matches = union(postings(titlePostings, term), postings(contentPostings, term));
+                candidates = candidates == null ? matches : intersect(candidates, matches);
+                if (candidates.length == 0) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (int ordinal : candidates) {
+                if (!live.get(ordinal) || deleted.get(ordinal) != isDeleted) {
+                    continue;
+                }
+                int score = 0;
+                for (String term : terms) {
+                    score += postings(titlePostings, term).contains(ordinal) ? TITLE_WEIGHT : 0;
+                    score += postings(contentPostings, term).contains(ordinal) ? CONTENT_WEIGHT : 0;
+                }
+                hits.add(new Hit(idsByOrdinal.get(ordinal), score));
+            }
+
+            return hits.stream()
+                    .sorted(Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::id))
+                    .map(Hit::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            long postings = 0;
+            long bytes = 0;
+            for (Map<String, Postings> index : List.of(titlePostings, contentPostings)) {
+                for (Map.Entry<String, Postings> entry : index.entrySet()) {
+                    postings += entry.getValue().size;
+                    // map entry + key string + posting array
+                    bytes += 48 + 40 + 2L * entry.getKey().length() + 32 + 4L * entry.getValue().ordinals.length;
+                }
+            }
+            // id map entries, boxed ordinals, ordinal -> id list, bitsets
+            bytes += ordinalsById.size() * (48L + 16 + 32);
+            bytes += idsByOrdinal.size() * 40L;
+            bytes += (live.size() + deleted.size()) / 8;
+
+            Set<String> terms = new LinkedHashSet<>(titlePostings.keySet());
+            terms.addAll(contentPostings.keySet());
+            return new Stats(ordinalsById.size(), terms.size(), postings, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void append(UUID id, String title, String content, boolean isDeleted) {
+        int ordinal = idsByOrdinal.size();
+        idsByOrdinal.add(id);
+        ordinalsById.put(id, ordinal);
+        live.set(ordinal);
+        deleted.set(ordinal, isDeleted);
+        for (String term : tokenize(title)) {
+            titlePostings.computeIfAbsent(term, t -> new Postings()).add(ordinal);
+        }
+        for (String term : tokenize(content)) {
+            contentPostings.computeIfAbsent(term, t -> new Postings()).add(ordinal);
+        }
+    }
+
+    private void tombstone(UUID id) {
+        Integer ordinal = ordinalsById.remove(id);
+        if (ordinal != null) {
+            live.clear(ordinal);
+        }
+    }
+
+    private void compactIfNeeded() {
+        int dead = idsByOrdinal.size() - ordinalsById.size();
+        if (dead < MIN_DEAD_ORDINALS_TO_COMPACT || dead < ordinalsById.size()) {
+            return;
+        }
+
+        // renumber live ordinals in order, which keeps every posting list sorted
+        int[] remap = new int[idsByOrdinal.size()];
+        List<UUID> compactedIds = new ArrayList<>(ordinalsById.size());
+        BitSet compactedDeleted = new BitSet();
+        for (int ordinal = 0; ordinal < idsByOrdinal.size(); ordinal++) {
+            if (!live.get(ordinal)) {
+                remap[ordinal] = -1;
+                continue;
+            }
+            int newOrdinal = compactedIds.size();
+            remap[ordinal] = newOrdinal;
+            compactedIds.add(idsByOrdinal.get(ordinal));
+            compactedDeleted.set(newOrdinal, deleted.get(ordinal));
+            ordinalsById.put(idsByOrdinal.get(ordinal), newOrdinal);
+        }
+
+        titlePostings.values().removeIf(postings -> postings.remap(remap));
+        contentPostings.values().removeIf(postings -> postings.remap(remap));
+        idsByOrdinal.clear();
+        idsByOrdinal.addAll(compactedIds);
+        live.clear();
+        live.set(0, compactedIds.size());
+        deleted.clear();
+        deleted.or(compactedDeleted);
+    }
+
+    private static Postings postings(Map<String, Postings> index, String term) {
+        return index.getOrDefault(term, Postings.EMPTY);
+    }
+
+    private static int[] union(Postings a, Postings b) {
+        int[] result = new int[a.size + b.size];
+        int i = 0, j = 0, n = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.ordinals[i] < b.ordinals[j])) {
+                result[n++] = a.ordinals[i++];
+            } else if (i == a.size || b.ordinals[j] < a.ordinals[i]) {
+                result[n++] = b.ordinals[j++];
+            } else {
+                result[n++] = a.ordinals[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (b[j] < a[i]) {
+                j++;
+            } else {
+                result[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    public record Stats(int posts, int terms, long postings, long estimatedBytes) {
+
+        public long estimatedBytesPerPost() {
+            return posts == 0 ? 0 : estimatedBytes / posts;
+        }
+
+    }
+
+    private record Hit(UUID id, int score) {
+
+    }
+
+    /**
+     * Sorted, growable list of ordinals.
+     */
+    private static final class Postings {
+
+        static final Postings EMPTY = new Postings();
+
+        int[] ordinals = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            // ordinals only grow, and a term is added once per document
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        /**
+         * Rewrites the ordinals through {@code remap}, dropping dead ones.
+         *
+         * @return {@code true} if the list is now empty
+         */
+        boolean remap(int[] remap) {
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal >= 0) {
+                    ordinals[n++] = ordinal;
+                }
+            }
+            size = n;
+            ordinals = Arrays.copyOf(ordinals, Math.max(n, 4));
+            return n == 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.blog.infrastructure.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+/**
+ * Resolves a keyword query to a page of post ids, best match first.
+ * Selected with {@code blog.search.engine} ({@code postgres} by default, or {@code memory}).
+ */
+public interface PostSearchEngine {
+
+    Page<UUID> searchIds(String keyword, boolean deleted, Pageable pageable);
+
+}
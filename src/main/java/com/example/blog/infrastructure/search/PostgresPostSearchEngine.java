@@ -0,0 +1,24 @@
+package com.example.blog.infrastructure.search;
+
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresPostSearchEngine implements PostSearchEngine {
+
+    private final PostEntityRepository repository;
+
+    @Override
+    public Page<UUID> searchIds(String keyword, boolean deleted, Pageable pageable) {
+        return repository.searchIds(keyword, deleted, pageable);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.example.blog.infrastructure.web;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of requests in flight, in front of the connection pool.
+ * <p>
+ * With a virtual thread per request nothing bounds concurrency any more: under a burst,
+ * thousands of requests would pile up on Hikari, time out after its
+ * {@code connection-timeout} with a 500 and hold their request bodies in memory meanwhile.
+ * Instead, requests wait here in arrival order for at most {@code timeout} and are then
+ * turned away with a 503. A request that continues asynchronously, like the NDJSON
+ * export, keeps its permit until it completes.
+ */
+public class RequestPermitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long timeoutNanos;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public RequestPermitFilter(int maxConcurrentRequests, Duration timeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!acquire()) {
+            rejected.incrementAndGet();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many concurrent requests");
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blog.web.permits.available", permits, Semaphore::availablePermits)
+                .description("Requests that can start without waiting")
+                .register(registry);
+        Gauge.builder("blog.web.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a permit")
+                .register(registry);
+        Gauge.builder("blog.web.permits.max", () -> maxConcurrentRequests)
+                .register(registry);
+        FunctionCounter.builder("blog.web.permits.rejected", rejected, AtomicLong::get)
+                .description("Requests turned away after waiting for a permit")
+                .register(registry);
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ReleasingListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // a redispatch that starts async again registers its own listener
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.blog.infrastructure.web;
+
+import com.example.blog.infrastructure.metrics.RequestStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the {@link RequestStatistics} of each request per endpoint, tagged like
+ * {@code http.server.requests}: statements, entity loads and lazy collection fetches.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestStatistics.Counts counts = RequestStatistics.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStatistics.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+            record("blog.request.hibernate.statements", tags, counts.statements());
+            record("blog.request.hibernate.entity.loads", tags, counts.entityLoads());
+            record("blog.request.hibernate.collection.fetches", tags, counts.collectionFetches());
+        }
+    }
+
+    private void record(String name, Tags tags, long count) {
+        DistributionSummary.builder(name).tags(tags).register(meterRegistry).record(count);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.example.blog.utils;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A page of a keyset pagination. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> transformedContent = content.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPage<>(transformedContent, this.pageSize, this.nextCursor);
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.example.blog.utils.mapper;
 
+import com.example.blog.application.command.CommentCreateCommand;
 import com.example.blog.application.query.PostDTO;
 import com.example.blog.domain.Comment;
+import com.example.blog.web.dto.CommentRequestDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants.ComponentModel;
@@ -15,6 +17,8 @@ public interface CommentMapper {
     @Mapping(target = "isApproved", source = "comment", qualifiedByName = "mapIsApproved")
     PostDTO.CommentDTO toDto(Comment comment);
 
+    CommentCreateCommand toCreateCommand(CommentRequestDto dto);
+
     @Named("mapIsApproved")
     default boolean mapIsApproved(Comment comment) {
         return comment != null && comment.isApproved();
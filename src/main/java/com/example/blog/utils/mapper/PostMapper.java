@@ -3,7 +3,10 @@ package com.example.blog.utils.mapper;
 import com.example.blog.application.command.PostCreateCommand;
 import com.example.blog.application.command.PostEditCommand;
 import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PublishedPostDTO;
+import com.example.blog.domain.Comment;
 import com.example.blog.domain.Post;
+import com.example.blog.utils.Cursor;
 import com.example.blog.web.dto.PostRequestDto;
 
 import org.mapstruct.Mapper;
@@ -19,7 +22,13 @@ public interface PostMapper {
     @Mapping(target = "authorId", source = "author.id")
     @Mapping(target = "isPublished", source = "post", qualifiedByName = "mapIsPublished")
     @Mapping(target = "isDeleted", source = "post", qualifiedByName = "mapIsDeleted")
+    @Mapping(target = "commentsNextCursor", source = "post", qualifiedByName = "mapCommentsNextCursor")
     PostDTO toDto(Post post);
+
+    @Mapping(target = "id", source = "id.id")
+    @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "commentsNextCursor", source = "post", qualifiedByName = "mapCommentsNextCursor")
+    PublishedPostDTO toPublishedDto(Post post);
     
     PostCreateCommand toCreateCommand(PostRequestDto dto);
     
@@ -35,4 +44,16 @@ public interface PostMapper {
         return post != null && post.isDeleted();
     }
 
+    /**
+     * Where the comments following the loaded ones start, or {@code null} if all are loaded.
+     */
+    @Named("mapCommentsNextCursor")
+    default String mapCommentsNextCursor(Post post) {
+        if (post == null || post.getComments().isEmpty() || post.getCommentCount() <= post.getComments().size()) {
+            return null;
+        }
+        Comment last = post.getComments().get(post.getComments().size() - 1);
+        return new Cursor(last.getCreatedAt(), last.getId().id()).encode();
+    }
+
 }
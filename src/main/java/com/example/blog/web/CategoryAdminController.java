@@ -0,0 +1,37 @@
+package com.example.blog.web;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.blog.application.CategoryQueryService;
+import com.example.blog.application.query.PostDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping(path = "/admin/categories")
+@RequiredArgsConstructor
+public class CategoryAdminController {
+	
+	private final CategoryQueryService categoryQueryService;
+	
+	@GetMapping
+	public ResponseEntity<List<PostDTO.CategoryDTO>> getAllCategories(WebRequest request) {
+		// read the version first: a list newer than its ETag only costs one extra download
+		String etag = "\"" + Long.toHexString(categoryQueryService.version()) + "\"";
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+		return ResponseEntity.ok().eTag(etag).body(categoryQueryService.findAll());
+	}
+	
+}
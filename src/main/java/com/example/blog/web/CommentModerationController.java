@@ -0,0 +1,60 @@
+package com.example.blog.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.blog.application.PostQueryService;
+import com.example.blog.application.PostService;
+import com.example.blog.application.command.CommentModerationResult;
+import com.example.blog.application.query.PendingCommentDTO;
+import com.example.blog.utils.CursorPage;
+import com.example.blog.web.dto.CommentModerationRequestDto;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moderation queue: unapproved comments across all posts, approved or rejected in bulk
+ * without going through the post aggregates.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping(path = "/admin/comments")
+@RequiredArgsConstructor
+public class CommentModerationController {
+	
+	private final PostService postService;
+	private final PostQueryService postQueryService;
+	
+	/**
+	 * Oldest pending comments first; pass the previous page's {@code nextCursor}.
+	 */
+	@GetMapping("/pending")
+	public ResponseEntity<CursorPage<PendingCommentDTO>> getPendingComments(
+			@RequestParam(required = false) String cursor, Pageable pageable) {
+		CursorPage<PendingCommentDTO> comments = postQueryService.findPendingComments(cursor, pageable.getPageSize());
+		return new ResponseEntity<CursorPage<PendingCommentDTO>>(comments, HttpStatus.OK);
+	}
+	
+	@PostMapping("/approve")
+	public ResponseEntity<CommentModerationResult> approveComments(@Valid @RequestBody CommentModerationRequestDto dto) {
+		CommentModerationResult result = postService.approveComments(dto.commentIds());
+		return new ResponseEntity<CommentModerationResult>(result, HttpStatus.OK);
+	}
+	
+	@PostMapping("/reject")
+	public ResponseEntity<CommentModerationResult> rejectComments(@Valid @RequestBody CommentModerationRequestDto dto) {
+		CommentModerationResult result = postService.rejectComments(dto.commentIds());
+		return new ResponseEntity<CommentModerationResult>(result, HttpStatus.OK);
+	}
+	
+}
@@ -0,0 +1,49 @@
+package com.example.blog.web;
+
+import java.time.ZoneId;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.blog.application.query.PostVersionDTO;
+
+/**
+ * Answers conditional GETs from validators read ahead of the response: {@code 304} when
+ * the client's copy is still current, without building the body.
+ */
+final class ConditionalGet {
+	
+	// admin clients may keep a copy but must revalidate it on every use
+	static final CacheControl ADMIN = CacheControl.noCache().cachePrivate();
+	
+	private ConditionalGet() {
+	}
+	
+	static <T> ResponseEntity<T> respond(WebRequest request, PostVersionDTO version, CacheControl cacheControl,
+			Supplier<T> body) {
+		return respond(request, version, cacheControl, builder -> builder.body(body.get()));
+	}
+	
+	/**
+	 * Like {@link #respond(WebRequest, PostVersionDTO, CacheControl, Supplier)}, for bodies that
+	 * come with headers of their own; {@code body} gets a builder with the validators set.
+	 */
+	static <T> ResponseEntity<T> respond(WebRequest request, PostVersionDTO version, CacheControl cacheControl,
+			Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> body) {
+		String etag = "\"" + version.tag() + "\"";
+		// timestamps are local to the server, like the rest of the schema
+		long lastModified = version.modifiedAt() == null ? -1
+				: version.modifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		
+		if (request.checkNotModified(etag, lastModified)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag)
+					.lastModified(lastModified).build();
+		}
+		return body.apply(ResponseEntity.ok().cacheControl(cacheControl).eTag(etag).lastModified(lastModified));
+	}
+	
+}
@@ -1,11 +1,28 @@
 package com.example.blog.web;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,19 +30,38 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.blog.application.PostQueryService;
 import com.example.blog.application.PostService;
+import com.example.blog.application.command.PostCreateCommand;
+import com.example.blog.application.command.PostImportResult;
 import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostSearchResultDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.utils.CursorPage;
 import com.example.blog.utils.Page;
+import com.example.blog.utils.mapper.CommentMapper;
 import com.example.blog.utils.mapper.PostMapper;
+import com.example.blog.web.dto.CommentRequestDto;
+import com.example.blog.web.dto.PostExportLineDto;
+import com.example.blog.web.dto.PostImportResponseDto;
 import com.example.blog.web.dto.PostRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping(path = "/admin/posts")
 @RequiredArgsConstructor
 public class PostAdminController {
@@ -33,18 +69,73 @@ public class PostAdminController {
 	private final PostService postService;
 	private final PostQueryService postQueryService;
 	private final PostMapper postMapper;
+	private final CommentMapper commentMapper;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final TransactionTemplate transactionTemplate;
+	
+	private static final int IMPORT_CHUNK_SIZE = 500;
+	private static final int MAX_REPORTED_ERRORS = 1000;
 	
 	@GetMapping
 	@Transactional(readOnly = true)
-	public ResponseEntity<Page<PostDTO>> getAllPosts(Pageable pageable) {
-		Page<PostDTO> posts = postQueryService.findAll(pageable.getPageNumber(), pageable.getPageSize());
-		return new ResponseEntity<Page<PostDTO>>(posts, HttpStatus.OK);
+	public ResponseEntity<Page<PostDTO>> getAllPosts(Pageable pageable, WebRequest request) {
+		int page = pageable.getPageNumber();
+		int size = pageable.getPageSize();
+		return ConditionalGet.respond(request, postQueryService.findPageVersion(page, size), ConditionalGet.ADMIN,
+				() -> postQueryService.findAll(page, size));
+	}
+	
+	@GetMapping(params = "cursor")
+	@Transactional(readOnly = true)
+	public ResponseEntity<CursorPage<PostDTO>> getPostsAfterCursor(@RequestParam String cursor, Pageable pageable) {
+		CursorPage<PostDTO> posts = postQueryService.findAll(cursor, pageable.getPageSize());
+		return new ResponseEntity<CursorPage<PostDTO>>(posts, HttpStatus.OK);
 	}
 	
+	@GetMapping(params = "view=summary")
+	@Transactional(readOnly = true)
+	public ResponseEntity<Page<PostSummaryDTO>> getAllPostSummaries(Pageable pageable, WebRequest request) {
+		int page = pageable.getPageNumber();
+		int size = pageable.getPageSize();
+		return ConditionalGet.respond(request, postQueryService.findPageVersion(page, size), ConditionalGet.ADMIN,
+				() -> postQueryService.findAllSummaries(page, size));
+	}
+	
+	@GetMapping("/search")
+	@Transactional(readOnly = true)
+	public ResponseEntity<Page<PostSearchResultDTO>> searchPosts(@RequestParam("q") String keyword,
+			@RequestParam(defaultValue = "false") boolean deleted, Pageable pageable) {
+		Page<PostSearchResultDTO> posts = postQueryService.search(keyword, deleted, pageable.getPageNumber(), pageable.getPageSize());
+		return new ResponseEntity<Page<PostSearchResultDTO>>(posts, HttpStatus.OK);
+	}
+	
+	/**
+	 * Streams every live post as NDJSON, one post per line, from a single database scan.
+	 */
+	@GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportPosts() {
+		StreamingResponseBody body = out -> postQueryService.exportAll(post -> {
+			try {
+				out.write(objectMapper.writeValueAsBytes(PostExportLineDto.from(post)));
+				out.write('\n');
+			} catch (IOException e) {
+				// the client went away: abort the scan
+				throw new UncheckedIOException(e);
+			}
+		});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+	
+	/**
+	 * Answers {@code If-None-Match} and {@code If-Modified-Since} with 304 from the post's
+	 * version alone, before reading the post.
+	 */
 	@GetMapping("/{id}")
 	@Transactional(readOnly = true)
-	public ResponseEntity<PostDTO> getPostById(@PathVariable UUID id) {
-		return new ResponseEntity<PostDTO>(postQueryService.findById(id), HttpStatus.OK);
+	public ResponseEntity<PostDTO> getPostById(@PathVariable UUID id, WebRequest request) {
+		return ConditionalGet.respond(request, postQueryService.findVersion(id), ConditionalGet.ADMIN,
+				() -> postQueryService.findById(id));
 	}
 	
 	@PostMapping
@@ -54,6 +145,105 @@ public class PostAdminController {
 		return new ResponseEntity<Void>(HttpStatus.CREATED);
 	}
 	
+	/**
+	 * Imports one post per line of an NDJSON body. Lines are parsed and validated as
+	 * they are read and committed in chunks, so a bad line is reported without
+	 * aborting the rest of the stream. A chunk the database rejects is retried one line
+	 * per transaction, to import its good lines and report the bad ones.
+	 */
+	@PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<PostImportResponseDto> importPosts(InputStream body) throws IOException {
+		ImportReport report = new ImportReport();
+		List<PostCreateCommand> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+		List<Long> chunkLines = new ArrayList<>(IMPORT_CHUNK_SIZE);
+		
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		long lineNumber = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank()) {
+				continue;
+			}
+			
+			PostRequestDto dto;
+			try {
+				dto = objectMapper.readValue(line, PostRequestDto.class);
+			} catch (JsonProcessingException e) {
+				report.rejected(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+				continue;
+			}
+			Set<ConstraintViolation<PostRequestDto>> violations = validator.validate(dto);
+			if (!violations.isEmpty()) {
+				report.rejected(lineNumber, violations.stream()
+						.map(ConstraintViolation::getMessage)
+						.sorted()
+						.collect(Collectors.joining("; ")));
+				continue;
+			}
+			
+			chunk.add(postMapper.toCreateCommand(dto));
+			chunkLines.add(lineNumber);
+			if (chunk.size() == IMPORT_CHUNK_SIZE) {
+				importChunk(chunk, chunkLines, report);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			importChunk(chunk, chunkLines, report);
+		}
+		
+		return new ResponseEntity<PostImportResponseDto>(report.toDto(), HttpStatus.OK);
+	}
+	
+	private void importChunk(List<PostCreateCommand> chunk, List<Long> chunkLines, ImportReport report) {
+		try {
+			report.add(transactionTemplate.execute(status -> postService.importPosts(chunk)), chunkLines);
+		} catch (DataAccessException e) {
+			log.warn("Import chunk of lines {} to {} failed, importing its lines one by one",
+					chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e);
+			for (int i = 0; i < chunk.size(); i++) {
+				List<PostCreateCommand> single = List.of(chunk.get(i));
+				try {
+					report.add(transactionTemplate.execute(status -> postService.importPosts(single)),
+							List.of(chunkLines.get(i)));
+				} catch (DataAccessException lineFailure) {
+					log.warn("Import of line {} failed", chunkLines.get(i), lineFailure);
+					report.rejected(chunkLines.get(i), "Post could not be stored.");
+				}
+			}
+		} finally {
+			chunk.clear();
+			chunkLines.clear();
+		}
+	}
+	
+	private static final class ImportReport {
+		
+		private final List<PostImportResponseDto.LineError> errors = new ArrayList<>();
+		private int imported;
+		private int failed;
+		
+		void add(PostImportResult result, List<Long> lines) {
+			imported += result.importedIds().size();
+			for (Map.Entry<Integer, String> error : result.errors().entrySet()) {
+				rejected(lines.get(error.getKey()), error.getValue());
+			}
+		}
+		
+		void rejected(long line, String message) {
+			failed++;
+			if (errors.size() < MAX_REPORTED_ERRORS) {
+				errors.add(new PostImportResponseDto.LineError(line, message));
+			}
+		}
+		
+		PostImportResponseDto toDto() {
+			errors.sort(Comparator.comparingLong(PostImportResponseDto.LineError::line));
+			return new PostImportResponseDto(imported, failed, errors);
+		}
+		
+	}
+	
 	@PutMapping("/{id}")
 	@Transactional
 	public ResponseEntity<Void> editPost(@PathVariable UUID id, @Valid @RequestBody PostRequestDto dto) {
@@ -68,4 +258,39 @@ public class PostAdminController {
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 	
+	/**
+	 * Pages through the comments of a post, oldest first; pass the post's
+	 * {@code commentsNextCursor} or the previous page's {@code nextCursor}.
+	 */
+	@GetMapping("/{id}/comments")
+	public ResponseEntity<CursorPage<PostDTO.CommentDTO>> getComments(@PathVariable UUID id,
+			@RequestParam(required = false) String cursor, Pageable pageable) {
+		CursorPage<PostDTO.CommentDTO> comments = postQueryService.findComments(id, cursor, pageable.getPageSize());
+		return new ResponseEntity<CursorPage<PostDTO.CommentDTO>>(comments, HttpStatus.OK);
+	}
+	
+	/**
+	 * Queues a comment on a published post. The comment shows up once the ingestion
+	 * pipeline has flushed it; 503 when the queue is full.
+	 */
+	@PostMapping("/{id}/comments")
+	public ResponseEntity<UUID> submitComment(@PathVariable UUID id, @Valid @RequestBody CommentRequestDto dto) {
+		UUID commentId = postService.submitComment(id, commentMapper.toCreateCommand(dto));
+		return new ResponseEntity<UUID>(commentId, HttpStatus.ACCEPTED);
+	}
+	
+	@PutMapping("/{id}/comments/{commentId}/approve")
+	@Transactional
+	public ResponseEntity<Void> approveComment(@PathVariable UUID id, @PathVariable UUID commentId) {
+		postService.approveComment(id, commentId);
+		return new ResponseEntity<Void>(HttpStatus.ACCEPTED);
+	}
+	
+	@DeleteMapping("/{id}/comments/{commentId}")
+	@Transactional
+	public ResponseEntity<Void> removeComment(@PathVariable UUID id, @PathVariable UUID commentId) {
+		postService.removeComment(id, commentId);
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+	
 }
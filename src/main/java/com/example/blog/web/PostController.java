@@ -0,0 +1,107 @@
+package com.example.blog.web;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.blog.application.PostQueryService;
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostVersionDTO;
+import com.example.blog.application.query.PublishedPostDTO;
+import com.example.blog.infrastructure.cache.PostBodyCache;
+import com.example.blog.utils.CursorPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Public, read-only API: published posts by slug, with approved comments only.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping(path = "/posts")
+@RequiredArgsConstructor
+public class PostController {
+	
+	// shared caches may serve a copy for a minute, then revalidate it with its ETag
+	private static final CacheControl PUBLIC = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+	
+	private final PostQueryService postQueryService;
+	private final PostBodyCache postBodyCache;
+	private final ObjectMapper objectMapper;
+	
+	/**
+	 * Writes the {@link PublishedPostDTO} of the post as cached JSON bytes, gzipped for
+	 * clients that accept it, serializing it only when the post has changed.
+	 */
+	@GetMapping(path = "/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> getPublishedPost(@PathVariable String slug,
+			@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+			WebRequest request, HttpServletResponse response) {
+		PostVersionDTO version = postQueryService.findPublishedVersion(slug);
+		boolean gzip = acceptsGzip(acceptEncoding);
+		// the gzipped body is another representation, so it needs an ETag of its own
+		PostVersionDTO encodedVersion = gzip
+				? new PostVersionDTO(version.id(), version.tag() + "-gzip", version.modifiedAt())
+				: version;
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		
+		return ConditionalGet.respond(request, encodedVersion, PUBLIC, builder -> {
+			byte[] body = postBodyCache.get(version.id(), version.tag(), gzip, () -> serialize(slug));
+			if (gzip) {
+				builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+			}
+			return builder.contentType(MediaType.APPLICATION_JSON).body(body);
+		});
+	}
+	
+	/**
+	 * Pages through the approved comments of the post, oldest first; pass the post's
+	 * {@code commentsNextCursor} or the previous page's {@code nextCursor}.
+	 */
+	@GetMapping(path = "/{slug}/comments", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<CursorPage<PostDTO.CommentDTO>> getComments(@PathVariable String slug,
+			@RequestParam(required = false) String cursor, Pageable pageable) {
+		CursorPage<PostDTO.CommentDTO> comments =
+				postQueryService.findPublishedComments(slug, cursor, pageable.getPageSize());
+		return new ResponseEntity<CursorPage<PostDTO.CommentDTO>>(comments, HttpStatus.OK);
+	}
+	
+	private byte[] serialize(String slug) {
+		try {
+			return objectMapper.writeValueAsBytes(postQueryService.findPublishedBySlug(slug));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (parts[0].trim().equalsIgnoreCase("gzip")) {
+				return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+	
+}
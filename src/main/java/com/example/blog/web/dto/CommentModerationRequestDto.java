@@ -0,0 +1,20 @@
+package com.example.blog.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CommentModerationRequestDto(
+		@JsonProperty("comment_ids")
+		@NotEmpty(message = "comment ids must not be empty")
+		@Size(max = 500, message = "at most 500 comments can be moderated at once")
+		List<@NotNull UUID> commentIds
+		
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.example.blog.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CommentRequestDto(
+		@JsonProperty("content")
+		@NotBlank(message = "comment content must not be blank")
+		@Size(min = 1, max = 255, message = "comment content length must be between 1 and 255 characters")
+		String content,
+		
+		@JsonProperty("commenter_id")
+		@NotBlank(message = "commenter id must not be blank")
+		String commenterId
+		
+) {
+
+}
@@ -0,0 +1,49 @@
+package com.example.blog.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.blog.application.query.PostExportDTO;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One line of the NDJSON export. Field names follow {@link PostRequestDto}, so an
+ * export can be fed back to the bulk import.
+ */
+public record PostExportLineDto(
+		@JsonProperty("id")
+		UUID id,
+		
+		@JsonProperty("title")
+		String title,
+		
+		@JsonProperty("slug")
+		String slug,
+		
+		@JsonProperty("content")
+		String content,
+		
+		@JsonProperty("author_id")
+		String authorId,
+		
+		@JsonProperty("category_ids")
+		List<UUID> categoryIds,
+		
+		@JsonProperty("created_at")
+		LocalDateTime createdAt,
+		
+		@JsonProperty("updated_at")
+		LocalDateTime updatedAt,
+		
+		@JsonProperty("published_at")
+		LocalDateTime publishedAt
+		
+) {
+	
+	public static PostExportLineDto from(PostExportDTO post) {
+		return new PostExportLineDto(post.id(), post.title(), post.slug(), post.content(), post.authorId(),
+				post.categoryIds(), post.createdAt(), post.updatedAt(), post.publishedAt());
+	}
+	
+}
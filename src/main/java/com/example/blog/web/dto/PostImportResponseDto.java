@@ -0,0 +1,19 @@
+package com.example.blog.web.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk import. {@code errors} holds at most 1000 of the rejected
+ * lines, ordered by line number; {@code failed} counts all of them.
+ */
+public record PostImportResponseDto(
+		int imported,
+		int failed,
+		List<LineError> errors
+) {
+	
+	public record LineError(long line, String message) {
+		
+	}
+	
+}
@@ -20,6 +20,7 @@ public record PostRequestDto(
 		String content,
 		
 		@JsonProperty("author_id")
+		@Size(max = 255, message = "author id length must be at most 255 characters")
 		String authorId,
 		
 		@JsonProperty("category_ids")
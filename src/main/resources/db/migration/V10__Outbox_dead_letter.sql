@@ -0,0 +1,19 @@
+-- delivery attempts of an event that failed on its own; it is not claimed again before
+-- next_attempt_at, and moved to outbox_dead_letter once it has failed max-attempts times
+ALTER TABLE outbox
+    ADD COLUMN attempts        INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP WITHOUT TIME ZONE;
+
+-- events given up on, kept for inspection and replay by hand
+CREATE TABLE outbox_dead_letter
+(
+    id          BIGINT      NOT NULL,
+    event_type  VARCHAR(32) NOT NULL,
+    post_id     UUID        NOT NULL,
+    comment_id  UUID,
+    occurred_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    attempts    INT         NOT NULL,
+    failed_at   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    error       TEXT,
+    CONSTRAINT pk_outbox_dead_letter PRIMARY KEY (id)
+);
@@ -0,0 +1,3 @@
+-- slug allocation reads a slug and its numbered variants (slug-2, slug-3, ...) in one range scan;
+-- uc_post_slug follows the database collation, which cannot answer a LIKE prefix
+CREATE INDEX idx_post_slug_prefix ON post (slug varchar_pattern_ops);
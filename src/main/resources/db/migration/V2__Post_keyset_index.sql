@@ -0,0 +1,2 @@
+-- keyset pagination over live posts: ORDER BY created_at, id with (created_at, id) > (?, ?)
+CREATE INDEX idx_post_live_created_at_id ON post (created_at, id) WHERE deleted_at IS NULL;
@@ -0,0 +1,17 @@
+-- up to here content was mapped with @Lob: Hibernate stored the text of every post as a
+-- large object and wrote only its oid into the TEXT column. No other code path wrote posts,
+-- so every existing value is such an oid and is inlined; one that is not fails the migration
+-- rather than being guessed at. The large objects are left behind for vacuumlo.
+UPDATE post
+SET content = convert_from(lo_get(content::oid), 'UTF8')
+WHERE content IS NOT NULL;
+
+-- full-text search over title (weight A) and content (weight B); 'simple' keeps it language neutral
+ALTER TABLE post
+    ADD COLUMN search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+        ) STORED;
+
+CREATE INDEX idx_post_search_vector ON post USING GIN (search_vector);
@@ -0,0 +1,17 @@
+-- category names are unique (see CategoryService); this also serves the name lookups
+CREATE UNIQUE INDEX uidx_category_name ON category (name);
+
+-- post_category had no key at all: key it by (post_id, category_id), which also serves the
+-- category lookups of a post; category_id gets its own index for "is this category in use"
+-- and for the foreign key
+ALTER TABLE post_category
+    ADD CONSTRAINT pk_post_category PRIMARY KEY (post_id, category_id);
+
+CREATE INDEX idx_post_category_category_id ON post_category (category_id);
+
+-- comments are always loaded and counted per post
+CREATE INDEX idx_comment_post_id ON comment (post_id);
+
+-- trash listing: ORDER BY deleted_at, id over soft-deleted posts only
+-- (live posts are covered by idx_post_live_created_at_id)
+CREATE INDEX idx_post_deleted_deleted_at_id ON post (deleted_at, id) WHERE deleted_at IS NOT NULL;
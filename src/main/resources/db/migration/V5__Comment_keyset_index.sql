@@ -0,0 +1,13 @@
+-- comments are paged per post in (created_at, id) order, separately from the post;
+-- the wider index also serves the per-post lookups and counts of idx_comment_post_id
+CREATE INDEX idx_comment_post_created_at_id ON comment (post_id, created_at, id);
+DROP INDEX idx_comment_post_id;
+
+-- comments no longer go through the post's collection mapping: orphans were unreachable,
+-- and removing a post takes its comments with it in the database
+DELETE FROM comment WHERE post_id IS NULL;
+ALTER TABLE comment ALTER COLUMN post_id SET NOT NULL;
+
+ALTER TABLE comment DROP CONSTRAINT FK_COMMENT_ON_POST;
+ALTER TABLE comment
+    ADD CONSTRAINT fk_comment_on_post FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE;
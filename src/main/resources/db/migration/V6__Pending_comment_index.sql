@@ -0,0 +1,3 @@
+-- the moderation queue reads unapproved comments across all posts in (created_at, id) order;
+-- approved comments, the vast majority, stay out of the index
+CREATE INDEX idx_comment_pending_created_at_id ON comment (created_at, id) WHERE approved_at IS NULL;
@@ -0,0 +1,41 @@
+-- denormalized read model: one row per post with everything the listing and detail reads need,
+-- kept up to date by PostViewProjector in the transactions that write the normalized tables
+CREATE TABLE post_view
+(
+    id                     UUID         NOT NULL,
+    title                  VARCHAR(255) NOT NULL,
+    slug                   VARCHAR(255),
+    content                TEXT,
+    author_id              VARCHAR(255) NOT NULL,
+    created_at             TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at             TIMESTAMP WITHOUT TIME ZONE,
+    published_at           TIMESTAMP WITHOUT TIME ZONE,
+    deleted_at             TIMESTAMP WITHOUT TIME ZONE,
+    -- parallel arrays, ordered by category name
+    category_ids           UUID[]       NOT NULL,
+    category_names         TEXT[]       NOT NULL,
+    comment_count          BIGINT       NOT NULL,
+    approved_comment_count BIGINT       NOT NULL,
+    last_comment_at        TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT pk_post_view PRIMARY KEY (id),
+    CONSTRAINT fk_post_view_on_post FOREIGN KEY (id) REFERENCES post (id) ON DELETE CASCADE
+);
+
+-- the summary listing pages live posts in (created_at, id) order, like idx_post_live_created_at_id
+CREATE INDEX idx_post_view_live_created_at_id ON post_view (created_at, id) WHERE deleted_at IS NULL;
+
+INSERT INTO post_view (id, title, slug, content, author_id, created_at, updated_at, published_at, deleted_at,
+                       category_ids, category_names, comment_count, approved_comment_count, last_comment_at)
+SELECT p.id, p.title, p.slug, p.content, p.author_id, p.created_at, p.updated_at, p.published_at, p.deleted_at,
+       coalesce(cat.ids, '{}'), coalesce(cat.names, '{}'), com.total, com.approved, com.last_at
+FROM post p
+LEFT JOIN LATERAL (
+    SELECT array_agg(c.id ORDER BY c.name, c.id) AS ids, array_agg(c.name ORDER BY c.name, c.id) AS names
+    FROM post_category pc JOIN category c ON c.id = pc.category_id
+    WHERE pc.post_id = p.id
+) cat ON true
+LEFT JOIN LATERAL (
+    SELECT count(*) AS total, count(c.approved_at) AS approved, max(c.created_at) AS last_at
+    FROM comment c
+    WHERE c.post_id = p.id
+) com ON true;
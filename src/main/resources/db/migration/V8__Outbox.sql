@@ -0,0 +1,11 @@
+-- post and comment events, written in the transaction that saves the change and deleted
+-- by OutboxRelay once handed to the sink; no foreign key, events outlive their post
+CREATE TABLE outbox
+(
+    id          BIGINT GENERATED ALWAYS AS IDENTITY,
+    event_type  VARCHAR(32) NOT NULL,
+    post_id     UUID        NOT NULL,
+    comment_id  UUID,
+    occurred_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    CONSTRAINT pk_outbox PRIMARY KEY (id)
+);
@@ -0,0 +1,18 @@
+-- validators for conditional GETs: every rebuild of a post_view row takes a new version from
+-- the sequence and stamps the time, so a row's version changes whenever anything shown for the
+-- post does, including its comments
+CREATE SEQUENCE post_view_version_seq;
+
+ALTER TABLE post_view
+    ADD COLUMN version     BIGINT                      NOT NULL DEFAULT nextval('post_view_version_seq'),
+    ADD COLUMN modified_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT localtimestamp;
+
+ALTER TABLE post_view
+    ALTER COLUMN version DROP DEFAULT,
+    ALTER COLUMN modified_at DROP DEFAULT;
+
+-- Last-Modified of the listings
+CREATE INDEX idx_post_view_modified_at ON post_view (modified_at);
+
+-- version probe of the public read by slug
+CREATE INDEX idx_post_view_published_slug ON post_view (slug) WHERE published_at IS NOT NULL AND deleted_at IS NULL;
@@ -0,0 +1,32 @@
+package com.example.blog.application;
+
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.ReactivePostQueryRepository;
+import com.example.blog.utils.Page;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reads for the reactive stack. Writes always go through {@link PostService}.
+ */
+@RequiredArgsConstructor
+public class ReactivePostQueryService {
+
+    private final ReactivePostQueryRepository repository;
+
+    public Mono<PostDTO> findById(UUID id) {
+        return repository.findById(id);
+    }
+
+    public Mono<Page<PostDTO>> findAll(int page, int size) {
+        return repository.findAll(page, size);
+    }
+
+    public Flux<PostDTO.CategoryDTO> findAllCategories() {
+        return repository.findAllCategories();
+    }
+
+}
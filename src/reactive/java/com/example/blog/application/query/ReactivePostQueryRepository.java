@@ -0,0 +1,31 @@
+package com.example.blog.application.query;
+
+import com.example.blog.utils.Page;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read side for posts and categories, returning the same DTOs as the
+ * blocking path so both stacks serve identical responses.
+ */
+public interface ReactivePostQueryRepository {
+
+    /**
+     * The live post with its comment count and first page of comments, like
+     * {@code PostQueryService.findById}; errors when there is no such post.
+     */
+    Mono<PostDTO> findById(UUID id);
+
+    /**
+     * A page of live posts ordered by {@code (createdAt, id)}.
+     */
+    Mono<Page<PostDTO>> findAll(int page, int size);
+
+    /**
+     * All categories ordered by name.
+     */
+    Flux<PostDTO.CategoryDTO> findAllCategories();
+
+}
@@ -0,0 +1,16 @@
+package com.example.blog.infrastructure.config;
+
+import com.example.blog.application.ReactivePostQueryService;
+import com.example.blog.application.query.ReactivePostQueryRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReactivePostQueryServiceBean {
+
+    @Bean
+    ReactivePostQueryService reactivePostQueryService(ReactivePostQueryRepository repository) {
+        return new ReactivePostQueryService(repository);
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.example.blog.infrastructure.r2dbc;
+
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.ReactivePostQueryRepository;
+import com.example.blog.infrastructure.jpa.exception.ResourceNotFoundException;
+import com.example.blog.infrastructure.jpa.impl.PostAggregateLoader;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.Page;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * R2DBC implementation of the post reads. Like {@link PostAggregateLoader}, a page costs
+ * a fixed number of statements: the ids first, then posts, categories, first comment pages
+ * and comment counts for all of them, the last four running concurrently.
+ */
+@Component
+@RequiredArgsConstructor
+public class R2dbcPostQueryRepository implements ReactivePostQueryRepository {
+
+    private static final String SELECT_LIVE_IDS = """
+            select p.id from post p
+            where p.deleted_at is null
+            order by p.created_at, p.id
+            limit :limit offset :offset
+            """;
+
+    private static final String COUNT_LIVE = "select count(*) from post p where p.deleted_at is null";
+
+    private static final String SELECT_POSTS = """
+            select p.id, p.title, p.content, p.author_id, p.slug, p.created_at, p.updated_at,
+                   p.published_at, p.deleted_at
+            from post p
+            where p.id = any(:ids) and p.deleted_at is null
+            """;
+
+    private static final String SELECT_CATEGORIES = """
+            select pc.post_id, c.id, c.name from post_category pc
+            join category c on c.id = pc.category_id
+            where pc.post_id = any(:ids)
+            order by c.name
+            """;
+
+    // the same lateral first pages as CommentEntityRepository.findFirstPagesByPostIdIn
+    private static final String SELECT_FIRST_COMMENT_PAGES = """
+            select c.* from post p
+            cross join lateral (
+                select * from comment
+                where post_id = p.id
+                order by created_at, id
+                limit :limit
+            ) c
+            where p.id = any(:ids)
+            order by c.post_id, c.created_at, c.id
+            """;
+
+    private static final String COUNT_COMMENTS = """
+            select c.post_id, count(*) as comment_count from comment c
+            where c.post_id = any(:ids)
+            group by c.post_id
+            """;
+
+    private static final String SELECT_ALL_CATEGORIES = "select c.id, c.name from category c order by c.name";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<PostDTO> findById(UUID id) {
+        return load(List.of(id))
+                .flatMap(posts -> posts.isEmpty()
+                        ? Mono.error(new ResourceNotFoundException(id))
+                        : Mono.just(posts.get(0)));
+    }
+
+    @Override
+    public Mono<Page<PostDTO>> findAll(int page, int size) {
+        Mono<List<PostDTO>> content = databaseClient.sql(SELECT_LIVE_IDS)
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map((row, metadata) -> row.get("id", UUID.class))
+                .all()
+                .collectList()
+                .flatMap(this::load);
+        Mono<Long> total = databaseClient.sql(COUNT_LIVE)
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+
+        return Mono.zip(content, total)
+                .map(tuple -> Page.of(tuple.getT1(), page, size, tuple.getT2()));
+    }
+
+    @Override
+    public Flux<PostDTO.CategoryDTO> findAllCategories() {
+        return databaseClient.sql(SELECT_ALL_CATEGORIES)
+                .map((row, metadata) -> new PostDTO.CategoryDTO(row.get("id", UUID.class), row.get("name", String.class)))
+                .all();
+    }
+
+    /**
+     * Keeps the order of {@code ids}, skipping ids of missing or deleted posts.
+     */
+    private Mono<List<PostDTO>> load(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        UUID[] idArray = ids.toArray(UUID[]::new);
+
+        Mono<Map<UUID, PostRow>> posts = databaseClient.sql(SELECT_POSTS)
+                .bind("ids", idArray)
+                .map((row, metadata) -> new PostRow(
+                        row.get("id", UUID.class),
+                        row.get("title", String.class),
+                        row.get("content", String.class),
+                        row.get("author_id", String.class),
+                        row.get("slug", String.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("published_at", LocalDateTime.class),
+                        row.get("deleted_at", LocalDateTime.class)))
+                .all()
+                .collectMap(PostRow::id);
+        Mono<Map<UUID, Collection<PostDTO.CategoryDTO>>> categories = databaseClient.sql(SELECT_CATEGORIES)
+                .bind("ids", idArray)
+                .map((row, metadata) -> new Keyed<>(row.get("post_id", UUID.class),
+                        new PostDTO.CategoryDTO(row.get("id", UUID.class), row.get("name", String.class))))
+                .all()
+                .collectMultimap(Keyed::key, Keyed::value);
+        Mono<Map<UUID, Collection<PostDTO.CommentDTO>>> comments = databaseClient.sql(SELECT_FIRST_COMMENT_PAGES)
+                .bind("ids", idArray)
+                .bind("limit", PostAggregateLoader.FIRST_COMMENT_PAGE_SIZE)
+                .map((row, metadata) -> {
+                    LocalDateTime approvedAt = row.get("approved_at", LocalDateTime.class);
+                    return new Keyed<>(row.get("post_id", UUID.class), new PostDTO.CommentDTO(
+                            row.get("id", UUID.class),
+                            row.get("content", String.class),
+                            row.get("commenter_id", String.class),
+                            approvedAt != null,
+                            row.get("created_at", LocalDateTime.class),
+                            row.get("updated_at", LocalDateTime.class),
+                            approvedAt));
+                })
+                .all()
+                .collectMultimap(Keyed::key, Keyed::value);
+        Mono<Map<UUID, Long>> commentCounts = databaseClient.sql(COUNT_COMMENTS)
+                .bind("ids", idArray)
+                .map((row, metadata) -> new Keyed<>(row.get("post_id", UUID.class), row.get("comment_count", Long.class)))
+                .all()
+                .collectMap(Keyed::key, Keyed::value);
+
+        return Mono.zip(posts, categories, comments, commentCounts)
+                .map(tuple -> ids.stream()
+                        .map(tuple.getT1()::get)
+                        .filter(Objects::nonNull)
+                        .map(post -> toDto(post,
+                                tuple.getT2().getOrDefault(post.id(), List.of()),
+                                tuple.getT3().getOrDefault(post.id(), List.of()),
+                                tuple.getT4().getOrDefault(post.id(), 0L)))
+                        .toList());
+    }
+
+    private static PostDTO toDto(PostRow post, Collection<PostDTO.CategoryDTO> categories,
+                                 Collection<PostDTO.CommentDTO> comments, long commentCount) {
+        List<PostDTO.CommentDTO> firstPage = new ArrayList<>(comments);
+        String commentsNextCursor = null;
+        if (!firstPage.isEmpty() && commentCount > firstPage.size()) {
+            PostDTO.CommentDTO last = firstPage.get(firstPage.size() - 1);
+            commentsNextCursor = new Cursor(last.createdAt(), last.id()).encode();
+        }
+        return new PostDTO(
+                post.id(),
+                post.title(),
+                post.content(),
+                post.authorId(),
+                List.copyOf(categories),
+                firstPage,
+                commentCount,
+                commentsNextCursor,
+                post.slug(),
+                post.createdAt(),
+                post.updatedAt(),
+                post.publishedAt() != null,
+                post.deletedAt() != null,
+                post.deletedAt()
+        );
+    }
+
+    private record PostRow(UUID id, String title, String content, String authorId, String slug,
+                           LocalDateTime createdAt, LocalDateTime updatedAt,
+                           LocalDateTime publishedAt, LocalDateTime deletedAt) {
+
+    }
+
+    private record Keyed<V>(UUID key, V value) {
+
+    }
+
+}
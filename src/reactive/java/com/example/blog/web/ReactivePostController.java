@@ -0,0 +1,58 @@
+package com.example.blog.web;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.blog.application.ReactivePostQueryService;
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.utils.Page;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only endpoints of the reactive stack, at the same paths and with the same bodies
+ * as {@link PostAdminController} and {@link CategoryAdminController}. Only active when the
+ * application runs as a reactive web application, where the servlet controllers are off.
+ */
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePostController {
+	
+	// the defaults of the Pageable resolver behind the servlet endpoints
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 2000;
+	
+	private final ReactivePostQueryService queryService;
+	
+	/**
+	 * Pages like the servlet endpoint: a negative page reads the first one, a size below
+	 * one falls back to the default and a larger one is capped at 2000.
+	 */
+	@GetMapping("/admin/posts")
+	public Mono<Page<PostDTO>> getAllPosts(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		int pageSize = size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+		return queryService.findAll(Math.max(page, 0), pageSize);
+	}
+	
+	@GetMapping("/admin/posts/{id}")
+	public Mono<PostDTO> getPostById(@PathVariable UUID id) {
+		return queryService.findById(id);
+	}
+	
+	@GetMapping("/admin/categories")
+	public Flux<PostDTO.CategoryDTO> getAllCategories() {
+		return queryService.findAllCategories();
+	}
+	
+}
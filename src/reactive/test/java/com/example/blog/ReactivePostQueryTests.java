@@ -0,0 +1,135 @@
+package com.example.blog;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.infrastructure.ingest.CommentIngestionPipeline;
+import com.example.blog.infrastructure.jpa.repository.CategoryEntityRepository;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import com.example.blog.infrastructure.outbox.OutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("Reactive Read Path Integration Tests")
+class ReactivePostQueryTests {
+
+    @Autowired
+    private WebTestClient client;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostEntityRepository postEntityRepository;
+    @Autowired
+    private CategoryEntityRepository categoryEntityRepository;
+    @Autowired
+    private CommentIngestionPipeline commentIngestionPipeline;
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        postEntityRepository.deleteAll();
+        categoryEntityRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /admin/posts/{id} should return the post as the servlet stack does")
+    void getPostById_shouldReturnPost() {
+        // Arrange
+        Category java = new Category("Java");
+        categoryRepository.save(java);
+        Post post = new Post("Reactive post", "Content", new Author("author"), java);
+        post.publishPost();
+        for (int i = 0; i < 25; i++) {
+            post.addComment(new Comment("Comment " + i, new Commenter("reader")));
+        }
+        postRepository.save(post);
+
+        // Act & Assert
+        client.get().uri("/admin/posts/{id}", post.getId().id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive post")
+                .jsonPath("$.categories[0].name").isEqualTo("Java")
+                .jsonPath("$.comments.length()").isEqualTo(20)
+                .jsonPath("$.comments[0].content").isEqualTo("Comment 0")
+                .jsonPath("$.commentCount").isEqualTo(25)
+                .jsonPath("$.commentsNextCursor").isNotEmpty()
+                .jsonPath("$.isPublished").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("GET /admin/posts should page through live posts in creation order")
+    void getAllPosts_shouldReturnPage() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            postRepository.save(new Post("Post " + i, "Content", new Author("author")));
+        }
+
+        // Act & Assert
+        client.get().uri("/admin/posts?page=0&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].title").isEqualTo("Post 0")
+                .jsonPath("$.totalPages").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /admin/posts should clamp the page and size like the servlet endpoint")
+    void getAllPosts_outOfRange_shouldClampPageAndSize() {
+        // Arrange
+        postRepository.save(new Post("Post", "Content", new Author("author")));
+
+        // Act & Assert
+        client.get().uri("/admin/posts?page=-1&size=5000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.pageNumber").isEqualTo(0)
+                .jsonPath("$.pageSize").isEqualTo(2000)
+                .jsonPath("$.content.length()").isEqualTo(1);
+        client.get().uri("/admin/posts?size=0")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.pageSize").isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("The reactive profile should not start the comment writer nor the outbox relay")
+    void reactiveProfile_shouldNotStartWriters() {
+        assertThat(commentIngestionPipeline.isRunning()).isFalse();
+        assertThat(outboxRelay.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("GET /admin/posts/{id} should answer 404 for an unknown post")
+    void getPostById_shouldReturnNotFound() {
+        client.get().uri("/admin/posts/{id}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.example.blog;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +14,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.blog.application.CategoryService;
+import com.example.blog.domain.Comment;
 import com.example.blog.domain.Post;
 import com.example.blog.domain.PostRepository;
 import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
 import com.example.blog.domain.valueobject.PostId;
 import com.example.blog.helper.Posts;
 import com.example.blog.infrastructure.jpa.entity.PostEntity;
@@ -25,6 +31,9 @@ import com.example.blog.web.dto.PostRequestDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +55,8 @@ class BlogApplicationTests {
 	private PostEntityRepository postEntityRepository;
 	@Autowired
 	private PostRepository postRepository;
+	@Autowired
+	private CategoryService categoryService;
 	
 	// Data test
 	private Post post1;
@@ -123,13 +134,110 @@ class BlogApplicationTests {
 			.andExpect(jsonPath("$.totalPages").value(2));
 	}
 	
+	@Test
+	@DisplayName("GET /admin/posts?cursor= should walk the posts page by page with a next cursor")
+	void getPosts_withCursor_shouldReturnKeysetPages() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		postRepository.save(post2);
+		
+		// Act & Assert
+		String firstPage = mvc.perform(get("/admin/posts?cursor=&size=1")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(1))
+			.andExpect(jsonPath("$.content.[0].title").value(post1.getTitle()))
+			.andExpect(jsonPath("$.pageSize").value(1))
+			.andExpect(jsonPath("$.nextCursor").isNotEmpty())
+			.andExpect(jsonPath("$.totalPages").doesNotExist())
+			.andReturn().getResponse().getContentAsString();
+		String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+		
+		mvc.perform(get("/admin/posts")
+				.param("cursor", nextCursor)
+				.param("size", "1")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(1))
+			.andExpect(jsonPath("$.content.[0].title").value(post2.getTitle()))
+			.andExpect(jsonPath("$.nextCursor").isEmpty());
+	}
+	
+	@Test
+	@DisplayName("GET /admin/posts?view=summary should return post summaries without content")
+	void getPostSummaries_shouldReturnPageOfSummaries() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		postRepository.save(post2);
+		
+		// Act & Assert
+		mvc.perform(get("/admin/posts?view=summary")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.content.length()").value(2))
+			.andExpect(jsonPath("$.content.[0].title").value(post1.getTitle()))
+			.andExpect(jsonPath("$.content.[0].slug").value(post1.getSlug()))
+			.andExpect(jsonPath("$.content.[0].commentCount").value(0))
+			.andExpect(jsonPath("$.content.[0].categories").isEmpty())
+			.andExpect(jsonPath("$.content.[0].content").doesNotExist())
+			.andExpect(jsonPath("$.content.[1].title").value(post2.getTitle()));
+	}
+	
+	@Test
+	@DisplayName("GET /admin/posts/search should return ranked posts with highlights")
+	void searchPosts_shouldReturnHighlightedHits() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		postRepository.save(post2);
+		
+		// Act & Assert
+		mvc.perform(get("/admin/posts/search")
+				.param("q", "bar 2")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(1))
+			.andExpect(jsonPath("$.content.[0].id").value(post2.getId().id().toString()))
+			.andExpect(jsonPath("$.content.[0].snippet").value("<b>bar</b> <b>2</b>"));
+	}
+	
+	@Test
+	@DisplayName("GET /admin/posts/export should stream live posts as NDJSON")
+	void exportPosts_shouldStreamLivePostsAsNdjson() throws Exception {
+		// Arrange
+		Post deleted = new Post("foo 3", "bar 3", new Author("author"));
+		deleted.softDelete();
+		postRepository.save(post1);
+		postRepository.save(post2);
+		postRepository.save(deleted);
+		
+		// Act
+		MvcResult result = mvc.perform(get("/admin/posts/export"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		String body = mvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+			.andReturn().getResponse().getContentAsString();
+		
+		// Assert
+		List<String> lines = body.lines().toList();
+		assertEquals(2, lines.size());
+		assertEquals(post1.getId().id().toString(), objectMapper.readTree(lines.get(0)).get("id").asText());
+		assertEquals(post2.getTitle(), objectMapper.readTree(lines.get(1)).get("title").asText());
+		assertTrue(objectMapper.readTree(lines.get(1)).get("category_ids").isArray());
+	}
+	
 	@Test
 	@DisplayName("GET /admin/posts/{id} when post exists should return the post details")
 	void getPost_existsPost_shouldReturn() throws Exception {
 		// Arrange
-		PostEntity postEntity1 = PostEntity.fromDomain(post1);
-		postEntityRepository.save(postEntity1);
-		UUID postUuid1 = postEntity1.getId();
+		postRepository.save(post1);
+		UUID postUuid1 = post1.getId().id();
 		
 		// Act & Assert
 		mvc.perform(get("/admin/posts/{id}", postUuid1.toString())
@@ -142,6 +250,270 @@ class BlogApplicationTests {
 			.andExpect(jsonPath("$.slug").value(post1.getSlug()));
 	}
     
+	@Test
+	@DisplayName("GET /admin/posts/{id} should carry the comment count and first page, and the rest should be paged separately")
+	void getPost_withManyComments_shouldPageCommentsSeparately() throws Exception {
+		// Arrange
+		post1.publishPost();
+		for (int i = 0; i < 25; i++) {
+			post1.addComment(new Comment("Comment " + i, new Commenter("reader")));
+		}
+		postRepository.save(post1);
+		
+		// Act & Assert
+		String post = mvc.perform(get("/admin/posts/{id}", post1.getId().id())
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.commentCount").value(25))
+			.andExpect(jsonPath("$.comments.length()").value(20))
+			.andExpect(jsonPath("$.comments.[0].content").value("Comment 0"))
+			.andExpect(jsonPath("$.commentsNextCursor").isNotEmpty())
+			.andReturn().getResponse().getContentAsString();
+		String nextCursor = objectMapper.readTree(post).get("commentsNextCursor").asText();
+		
+		mvc.perform(get("/admin/posts/{id}/comments", post1.getId().id())
+				.param("cursor", nextCursor)
+				.param("size", "10")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(5))
+			.andExpect(jsonPath("$.content.[0].content").value("Comment 20"))
+			.andExpect(jsonPath("$.content.[4].content").value("Comment 24"))
+			.andExpect(jsonPath("$.nextCursor").isEmpty());
+	}
+	
+	@Test
+	@DisplayName("PUT /admin/posts/{id}/comments/{commentId}/approve should approve a comment past the first page")
+	void approveComment_pastFirstPage_shouldApprove() throws Exception {
+		// Arrange
+		post1.publishPost();
+		for (int i = 0; i < 25; i++) {
+			post1.addComment(new Comment("Comment " + i, new Commenter("reader")));
+		}
+		postRepository.save(post1);
+		UUID lastCommentId = post1.getComments().get(24).getId().id();
+		
+		// Act
+		mvc.perform(put("/admin/posts/{id}/comments/{commentId}/approve", post1.getId().id(), lastCommentId))
+			.andDo(print())
+			.andExpect(status().isAccepted());
+		
+		// Assert
+		mvc.perform(get("/admin/posts/{id}/comments", post1.getId().id())
+				.param("size", "30")
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(25))
+			.andExpect(jsonPath("$.content.[24].isApproved").value(true))
+			.andExpect(jsonPath("$.content.[23].isApproved").value(false));
+	}
+	
+	@Test
+	@DisplayName("DELETE /admin/posts/{id}/comments/{commentId} should remove a comment past the first page")
+	void removeComment_pastFirstPage_shouldRemove() throws Exception {
+		// Arrange
+		post1.publishPost();
+		for (int i = 0; i < 25; i++) {
+			post1.addComment(new Comment("Comment " + i, new Commenter("reader")));
+		}
+		postRepository.save(post1);
+		UUID lastCommentId = post1.getComments().get(24).getId().id();
+		
+		// Act
+		mvc.perform(delete("/admin/posts/{id}/comments/{commentId}", post1.getId().id(), lastCommentId))
+			.andDo(print())
+			.andExpect(status().isNoContent());
+		
+		// Assert
+		mvc.perform(get("/admin/posts/{id}/comments", post1.getId().id())
+				.param("size", "30")
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(24))
+			.andExpect(jsonPath("$.content.[23].content").value("Comment 23"));
+	}
+	
+	@Test
+	@DisplayName("GET /admin/posts/{id} should answer a matching If-None-Match with 304 until the post changes")
+	void getPost_ifNoneMatch_shouldReturn304UntilChanged() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		String etag = mvc.perform(get("/admin/posts/{id}", post1.getId().id()))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "no-cache, private"))
+			.andExpect(header().exists("Last-Modified"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		// Act & Assert
+		mvc.perform(get("/admin/posts/{id}", post1.getId().id()).header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", etag))
+			.andExpect(content().string(""));
+		
+		post1.updatePost("foo 1 edited", "bar 1");
+		postRepository.save(post1);
+		mvc.perform(get("/admin/posts/{id}", post1.getId().id()).header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", not(etag)))
+			.andExpect(jsonPath("$.title").value("foo 1 edited"));
+	}
+	
+	@Test
+	@DisplayName("GET /admin/posts should answer a matching If-None-Match with 304 until a post is added")
+	void getPosts_ifNoneMatch_shouldReturn304UntilChanged() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		String etag = mvc.perform(get("/admin/posts"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader("ETag");
+		
+		// Act & Assert
+		mvc.perform(get("/admin/posts").header("If-None-Match", etag))
+			.andExpect(status().isNotModified());
+		mvc.perform(get("/admin/posts").param("view", "summary").header("If-None-Match", etag))
+			.andExpect(status().isNotModified());
+		
+		postRepository.save(post2);
+		mvc.perform(get("/admin/posts").header("If-None-Match", etag))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(2));
+	}
+	
+	// **** Public GET Posts ****
+	
+	@Test
+	@DisplayName("GET /posts/{slug} should return the published post with approved comments only")
+	void getPublishedPost_shouldReturnApprovedCommentsOnly() throws Exception {
+		// Arrange
+		post1.publishPost();
+		post1.addComment(new Comment("approved", new Commenter("reader-1")));
+		post1.addComment(new Comment("pending", new Commenter("reader-2")));
+		post1.approveComment(post1.getComments().get(0).getId());
+		postRepository.save(post1);
+		
+		// Act & Assert
+		mvc.perform(get("/posts/{slug}", post1.getSlug())
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(post1.getId().id().toString()))
+			.andExpect(jsonPath("$.title").value(post1.getTitle()))
+			.andExpect(jsonPath("$.comments.length()").value(1))
+			.andExpect(jsonPath("$.comments.[0].content").value("approved"))
+			.andExpect(jsonPath("$.commentsNextCursor").isEmpty())
+			.andExpect(jsonPath("$.isDeleted").doesNotExist());
+	}
+	
+	@Test
+	@DisplayName("GET /posts/{slug}/comments should page through the approved comments past the first page")
+	void getPublishedComments_shouldPageApprovedComments() throws Exception {
+		// Arrange
+		post1.publishPost();
+		for (int i = 0; i < 25; i++) {
+			post1.addComment(new Comment("Comment " + i, new Commenter("reader")));
+			post1.approveComment(post1.getComments().get(i).getId());
+		}
+		post1.addComment(new Comment("pending", new Commenter("reader")));
+		postRepository.save(post1);
+		
+		// Act & Assert
+		String post = mvc.perform(get("/posts/{slug}", post1.getSlug())
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.comments.length()").value(20))
+			.andExpect(jsonPath("$.commentsNextCursor").isNotEmpty())
+			.andReturn().getResponse().getContentAsString();
+		String nextCursor = objectMapper.readTree(post).get("commentsNextCursor").asText();
+		
+		mvc.perform(get("/posts/{slug}/comments", post1.getSlug())
+				.param("cursor", nextCursor)
+				.param("size", "10")
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(5))
+			.andExpect(jsonPath("$.content.[0].content").value("Comment 20"))
+			.andExpect(jsonPath("$.content.[4].content").value("Comment 24"))
+			.andExpect(jsonPath("$.nextCursor").isEmpty());
+		
+		mvc.perform(get("/posts/{slug}/comments", "no-such-post"))
+			.andExpect(status().isNotFound());
+	}
+	
+	@Test
+	@DisplayName("GET /posts/{slug} should only find the post while it is published")
+	void getPublishedPost_unpublished_shouldReturn404() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		
+		// Act & Assert
+		mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isNotFound());
+		
+		post1.publishPost();
+		postRepository.save(post1);
+		mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isOk());
+		
+		post1.unPublishPost();
+		postRepository.save(post1);
+		mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isNotFound());
+		
+		mvc.perform(get("/posts/{slug}", "no-such-post"))
+			.andExpect(status().isNotFound());
+	}
+	
+	@Test
+	@DisplayName("GET /posts/{slug} should be publicly cacheable and revalidate with 304")
+	void getPublishedPost_ifNoneMatch_shouldReturn304() throws Exception {
+		// Arrange
+		post1.publishPost();
+		postRepository.save(post1);
+		String etag = mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "max-age=60, public"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		// Act & Assert
+		mvc.perform(get("/posts/{slug}", post1.getSlug()).header("If-None-Match", etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("Cache-Control", "max-age=60, public"));
+	}
+	
+	@Test
+	@DisplayName("GET /posts/{slug} should serve the cached body gzipped on request and drop it when comments change")
+	void getPublishedPost_gzip_shouldServeCachedBodyUntilChanged() throws Exception {
+		// Arrange
+		post1.publishPost();
+		post1.addComment(new Comment("pending", new Commenter("reader")));
+		postRepository.save(post1);
+		UUID commentId = post1.getComments().get(0).getId().id();
+		
+		// Act & Assert
+		byte[] gzipped = mvc.perform(get("/posts/{slug}", post1.getSlug()).header("Accept-Encoding", "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andExpect(header().string("Vary", "Accept-Encoding"))
+			.andExpect(header().string("ETag", endsWith("-gzip\"")))
+			.andReturn().getResponse().getContentAsByteArray();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+			assertEquals(0, objectMapper.readTree(in).get("comments").size());
+		}
+		mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"))
+			.andExpect(jsonPath("$.comments.length()").value(0));
+		
+		mvc.perform(put("/admin/posts/{id}/comments/{commentId}/approve", post1.getId().id(), commentId))
+			.andExpect(status().isAccepted());
+		mvc.perform(get("/posts/{slug}", post1.getSlug()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.comments.length()").value(1));
+	}
+	
 	@Test
 	@DisplayName("GET /admin/posts/{id} when post does not exist should return 404 Not Found")
 	void getPost_nonExisting_shouldReturn404() throws Exception {
@@ -217,6 +589,58 @@ class BlogApplicationTests {
 		assertNotNull(post1Updated.getUpdatedAt());
 	}
 	
+	@Test
+	@DisplayName("POST /admin/posts/bulk should import valid lines and report the others by line number")
+	void importPosts_ndjson_shouldReportErrorsPerLine() throws Exception {
+		// Arrange
+		postRepository.save(post1);
+		String body = String.join("\n",
+				"{\"title\":\"Bulk 1\",\"content\":\"Imported content\",\"author_id\":\"legacy\"}",
+				"{\"title\":\"\",\"content\":\"Missing title\",\"author_id\":\"legacy\"}",
+				"not json",
+				"",
+				"{\"title\":\"Bulk 2\",\"content\":\"Imported content\",\"author_id\":\"legacy\",\"category_ids\":[\"" + UUID.randomUUID() + "\"]}",
+				"{\"title\":\"foo 1\",\"content\":\"Same slug as post1\",\"author_id\":\"legacy\"}",
+				"{\"title\":\"Bulk 3\",\"content\":\"Imported content\",\"author_id\":\"legacy\"}");
+		
+		// Act & Assert
+		mvc.perform(post("/admin/posts/bulk")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(body))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.imported").value(2))
+			.andExpect(jsonPath("$.failed").value(4))
+			.andExpect(jsonPath("$.errors[*].line").value(contains(2, 3, 5, 6)));
+		
+		assertEquals(3, postEntityRepository.count());
+		mvc.perform(get("/admin/posts/search").param("q", "imported"))
+			.andExpect(jsonPath("$.content.length()").value(2));
+	}
+	
+	@Test
+	@DisplayName("POST /admin/posts/bulk should report lines the database rejects and keep the rest of their chunk")
+	void importPosts_storeFailure_shouldReportLineAndContinue() throws Exception {
+		// Arrange
+		String body = String.join("\n",
+				"{\"title\":\"Bulk 1\",\"content\":\"Imported content\",\"author_id\":\"legacy\"}",
+				"{\"title\":\"Bulk 2\",\"content\":\"Nul \\u0000 byte\",\"author_id\":\"legacy\"}",
+				"{\"title\":\"Bulk 3\",\"content\":\"Imported content\",\"author_id\":\"" + "a".repeat(256) + "\"}",
+				"{\"title\":\"Bulk 4\",\"content\":\"Imported content\",\"author_id\":\"legacy\"}");
+		
+		// Act & Assert
+		mvc.perform(post("/admin/posts/bulk")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.content(body))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.imported").value(2))
+			.andExpect(jsonPath("$.failed").value(2))
+			.andExpect(jsonPath("$.errors[*].line").value(contains(2, 3)));
+		
+		assertEquals(2, postEntityRepository.count());
+	}
+	
 	@Test
 	@DisplayName("PUT /admin/posts/{id} when post does not exist should return 404 Not Found")
 	void editPost_nonExistingPost_shouldReturn404() throws Exception {
@@ -289,4 +713,35 @@ class BlogApplicationTests {
 			.andExpect(status().isNotFound());
 	}
 	
-}
\ No newline at end of file
+	// **** GET Categories ****
+	
+	@Test
+	@DisplayName("GET /admin/categories should return 304 Not Modified until the categories change")
+	void getCategories_withMatchingETag_shouldReturn304() throws Exception {
+		// Arrange
+		categoryService.createCategory("Category " + UUID.randomUUID());
+		
+		String etag = mvc.perform(get("/admin/categories")
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("ETag"))
+			.andReturn().getResponse().getHeader("ETag");
+		
+		// Act & Assert
+		mvc.perform(get("/admin/categories")
+				.header("If-None-Match", etag)
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isNotModified());
+		
+		categoryService.createCategory("Category " + UUID.randomUUID());
+		
+		mvc.perform(get("/admin/categories")
+				.header("If-None-Match", etag)
+				.accept(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", not(etag)));
+	}
+	
+}
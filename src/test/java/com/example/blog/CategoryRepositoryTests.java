@@ -0,0 +1,96 @@
+package com.example.blog;
+
+import com.example.blog.domain.Category;
+import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.exception.CategoryAlreadyExistsException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Category Repository Integration Tests")
+class CategoryRepositoryTests {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("reads should be served from the category snapshot without touching the database")
+    void reads_shouldNotQueryTheDatabase() {
+        // Arrange
+        String name = "Dictionary " + UUID.randomUUID();
+        Category category = new Category(name);
+        categoryRepository.save(category);
+
+        // Act
+        statistics.clear();
+        List<Category> byIds = categoryRepository.findCategoryByIds(List.of(category.getId()));
+        Category byId = categoryRepository.findById(category.getId());
+        boolean exists = categoryRepository.existByName(name);
+        List<Category> all = categoryRepository.findAll();
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(byIds).containsExactly(category);
+        assertThat(byId.getName()).isEqualTo(name);
+        assertThat(exists).isTrue();
+        assertThat(all).contains(category);
+    }
+
+    @Test
+    @DisplayName("writes should refresh the snapshot and its version")
+    void save_shouldRefreshSnapshotAndVersion() {
+        // Arrange
+        Category category = new Category("Before " + UUID.randomUUID());
+        categoryRepository.save(category);
+        long versionBefore = categoryRepository.version();
+
+        // Act
+        category.updateCategory("After " + UUID.randomUUID());
+        categoryRepository.save(category);
+
+        // Assert
+        assertThat(categoryRepository.version()).isNotEqualTo(versionBefore);
+        assertThat(categoryRepository.findById(category.getId()).getName()).isEqualTo(category.getName());
+        categoryRepository.findById(category.getId()).updateCategory("Mutated copy");
+        assertThat(categoryRepository.findById(category.getId()).getName()).isEqualTo(category.getName());
+    }
+
+    @Test
+    @DisplayName("save should reject a taken name, even when the snapshot has not seen it yet")
+    void save_duplicateName_shouldBeRejectedByTheDatabase() {
+        // Arrange
+        String name = "Unique " + UUID.randomUUID();
+        jdbcTemplate.update("insert into category (id, name) values (?, ?)", UUID.randomUUID(), name);
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryRepository.save(new Category(name)))
+                .isInstanceOf(CategoryAlreadyExistsException.class);
+    }
+
+}
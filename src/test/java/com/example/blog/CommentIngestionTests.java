@@ -0,0 +1,105 @@
+package com.example.blog;
+
+import com.example.blog.application.PostService;
+import com.example.blog.application.command.CommentCreateCommand;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.exception.PostNotPublishedException;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@DisplayName("Comment Ingestion Integration Tests")
+class CommentIngestionTests {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostEntityRepository postEntityRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        postEntityRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Submitted comments should be written in batches and refresh the cached post")
+    void submitComment_shouldWriteCommentsAndRefreshCachedPost() throws InterruptedException {
+        // Arrange
+        Post post = new Post("Busy post", "Content", new Author("author"));
+        post.publishPost();
+        postRepository.save(post);
+        // puts the post in the aggregate cache with no comments
+        assertThat(cachedCommentCount(post.getId())).isZero();
+
+        // Act
+        for (int i = 0; i < 1200; i++) {
+            postService.submitComment(post.getId().id(), new CommentCreateCommand("Comment " + i, "reader"));
+        }
+
+        // Assert
+        awaitTrue(() -> cachedCommentCount(post.getId()) == 1200);
+        assertThat(countComments(post.getId())).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("Comments should only be accepted once the post is published")
+    void submitComment_shouldRejectUntilPublished() throws InterruptedException {
+        // Arrange
+        Post post = new Post("Draft", "Content", new Author("author"));
+        postRepository.save(post);
+        CommentCreateCommand command = new CommentCreateCommand("Too early", "reader");
+
+        // Act & Assert
+        assertThatThrownBy(() -> postService.submitComment(post.getId().id(), command))
+                .isInstanceOf(PostNotPublishedException.class);
+
+        // saving the post evicts its cached status
+        post.publishPost();
+        postRepository.save(post);
+        postService.submitComment(post.getId().id(), command);
+        awaitTrue(() -> countComments(post.getId()) == 1);
+    }
+
+    private long cachedCommentCount(PostId postId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> postRepository.findById(postId).getCommentCount());
+    }
+
+    private long countComments(PostId postId) {
+        return jdbcTemplate.queryForObject("select count(*) from comment where post_id = ?", Long.class, postId.id());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+}
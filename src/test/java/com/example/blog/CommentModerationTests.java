@@ -0,0 +1,152 @@
+package com.example.blog;
+
+import com.example.blog.application.PostQueryService;
+import com.example.blog.application.PostService;
+import com.example.blog.application.command.CommentModerationResult;
+import com.example.blog.application.query.PendingCommentDTO;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import com.example.blog.utils.CursorPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@DisplayName("Comment Moderation Integration Tests")
+class CommentModerationTests {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostQueryService postQueryService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostEntityRepository postEntityRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        postEntityRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("The moderation queue should page through pending comments of published posts only")
+    void findPendingComments_shouldPageAcrossPosts() {
+        // Arrange
+        List<UUID> pending = new ArrayList<>();
+        pending.addAll(publishedPostWithComments(3));
+        pending.addAll(publishedPostWithComments(4));
+        Post post = postWithApprovedAndPendingComment();
+        pending.add(post.getComments().get(1).getId().id());
+        deletedPostWithComment();
+
+        // Act
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<PendingCommentDTO> page = postQueryService.findPendingComments(cursor, 3);
+            page.content().forEach(comment -> seen.add(comment.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(pending);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Bulk approve and reject should only change pending comments of published posts")
+    void approveAndRejectComments_shouldUpdateInBulk() {
+        // Arrange
+        List<UUID> comments = publishedPostWithComments(4);
+        UUID onDeletedPost = deletedPostWithComment();
+        UUID postId = postEntityRepository.findAll().stream()
+                .filter(post -> post.getDeletedAt() == null)
+                .findFirst().orElseThrow().getId();
+        // puts the post in the aggregate cache with all comments pending
+        assertThat(approvedCount(PostId.fromUUID(postId))).isZero();
+
+        // Act
+        CommentModerationResult approved = postService.approveComments(
+                List.of(comments.get(0), comments.get(1), onDeletedPost));
+        CommentModerationResult rejected = postService.rejectComments(List.of(comments.get(1), comments.get(2)));
+
+        // Assert
+        assertThat(approved.moderatedIds()).containsExactly(comments.get(0), comments.get(1));
+        assertThat(approved.errors()).containsOnlyKeys(onDeletedPost);
+        assertThat(approved.errors().get(onDeletedPost)).contains("not published");
+        // approved comments are no longer pending
+        assertThat(rejected.moderatedIds()).containsExactly(comments.get(2));
+        assertThat(rejected.errors()).containsOnlyKeys(comments.get(1));
+
+        assertThat(approvedCount(PostId.fromUUID(postId))).isEqualTo(2);
+        assertThat(postQueryService.findComments(postId, null, 10).content()).hasSize(3);
+        assertThat(postQueryService.findPendingComments(null, 10).content())
+                .extracting(PendingCommentDTO::id).containsExactly(comments.get(3));
+    }
+
+    private List<UUID> publishedPostWithComments(int count) {
+        Post post = new Post("Post " + UUID.randomUUID(), "Content", new Author("author"));
+        post.publishPost();
+        for (int i = 0; i < count; i++) {
+            post.addComment(new Comment("Comment " + i, new Commenter("reader")));
+        }
+        postRepository.save(post);
+        return post.getComments().stream().map(comment -> comment.getId().id()).toList();
+    }
+
+    /**
+     * Published posts cannot be deleted through the aggregate, so the row is updated
+     * directly to get pending comments on a post that is no longer live.
+     */
+    private UUID deletedPostWithComment() {
+        Post post = new Post("Deleted", "Content", new Author("author"));
+        post.publishPost();
+        post.addComment(new Comment("Hidden", new Commenter("reader")));
+        postRepository.save(post);
+        jdbcTemplate.update("update post set deleted_at = localtimestamp where id = ?", post.getId().id());
+        return post.getComments().get(0).getId().id();
+    }
+
+    private Post postWithApprovedAndPendingComment() {
+        Post post = new Post("Moderated", "Content", new Author("author"));
+        post.publishPost();
+        post.addComment(new Comment("Approved", new Commenter("reader")));
+        post.addComment(new Comment("Pending", new Commenter("reader")));
+        post.approveComment(post.getComments().get(0).getId());
+        postRepository.save(post);
+        return post;
+    }
+
+    private long approvedCount(PostId postId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> postRepository.findById(postId).getComments().stream()
+                .filter(Comment::isApproved)
+                .count());
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.blog;
+
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.infrastructure.search.InMemoryPostSearchEngine;
+import com.example.blog.infrastructure.search.PostSearchEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "blog.search.engine=memory")
+@DisplayName("In-Memory Post Search Integration Tests")
+class InMemoryPostSearchTests {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostSearchEngine searchEngine;
+
+    @Test
+    @DisplayName("search should route to the in-memory index and follow saved changes")
+    void search_shouldFollowSavedChanges() {
+        // Arrange
+        Post post = new Post("Zanzibar notes", "Spice islands", new Author("author"));
+        postRepository.save(post);
+
+        // Act
+        List<Post> found = postRepository.search("zanzibar", 0, 10).content();
+        post.softDelete();
+        postRepository.save(post);
+
+        // Assert
+        assertThat(searchEngine).isInstanceOf(InMemoryPostSearchEngine.class);
+        assertThat(found).extracting(Post::getId).containsExactly(post.getId());
+        assertThat(postRepository.search("zanzibar", 0, 10).content()).isEmpty();
+        assertThat(postRepository.searchDeletedPosts("spice", 0, 10).content())
+                .extracting(Post::getId).containsExactly(post.getId());
+        assertThat(((InMemoryPostSearchEngine) searchEngine).stats().estimatedBytesPerPost()).isPositive();
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.blog;
+
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@DisplayName("Metrics Integration Tests")
+class MetricsTests {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("service and repository calls should be timed per class and method")
+    void layerTimers_shouldRecordCalls() throws Exception {
+        // Arrange
+        Post post = new Post("Timed post", "Content", new Author("author"));
+        long savesBefore = timer("blog.repository", "PostRepositoryImpl", "save").count();
+        long findsBefore = timer("blog.service", "PostQueryService", "findById").count();
+
+        // Act
+        postRepository.save(post);
+        mvc.perform(get("/admin/posts/{id}", post.getId().id())).andExpect(status().isOk());
+
+        // Assert
+        assertThat(timer("blog.repository", "PostRepositoryImpl", "save").count()).isEqualTo(savesBefore + 1);
+        assertThat(timer("blog.service", "PostQueryService", "findById").count()).isEqualTo(findsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("the Hibernate work of each request should be recorded per endpoint")
+    void requestStatistics_shouldRecordHibernateWorkPerEndpoint() throws Exception {
+        // Arrange
+        Post post = new Post("Counted post", "Content", new Author("author"));
+        post.publishPost();
+        post.addComment(new Comment("comment", new Commenter("reader")));
+        postRepository.save(post);
+        DistributionSummary statements = summary("blog.request.hibernate.statements");
+        long requestsBefore = statements.count();
+        double statementsBefore = statements.totalAmount();
+        double loadsBefore = summary("blog.request.hibernate.entity.loads").totalAmount();
+
+        // Act
+        mvc.perform(get("/admin/posts")).andExpect(status().isOk());
+
+        // Assert
+        assertThat(statements.count()).isEqualTo(requestsBefore + 1);
+        assertThat(statements.totalAmount()).isGreaterThan(statementsBefore);
+        assertThat(summary("blog.request.hibernate.entity.loads").totalAmount()).isGreaterThan(loadsBefore);
+    }
+
+    private Timer timer(String name, String className, String method) {
+        return Timer.builder(name).tag("class", className).tag("method", method).tag("exception", "none")
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary summary(String name) {
+        return DistributionSummary.builder(name).tag("method", "GET").tag("uri", "/admin/posts").register(meterRegistry);
+    }
+
+}
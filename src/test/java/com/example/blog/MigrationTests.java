@@ -0,0 +1,72 @@
+package com.example.blog;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations against rows written by earlier versions of the mapping, in a schema
+ * of their own so that the application's schema is left alone.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@DisplayName("Migration Integration Tests")
+class MigrationTests {
+
+    private static final String SCHEMA = "migration_test";
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    @DisplayName("V3 should inline the large objects the @Lob mapping stored post content in")
+    void v3_shouldInlineLargeObjectContent() {
+        // Arrange
+        migrate("2");
+        UUID id = UUID.randomUUID();
+        long oid = jdbcTemplate.queryForObject("select lo_from_bytea(0, convert_to(?, 'UTF8'))::bigint",
+                Long.class, "Legacy content about Flyway");
+        jdbcTemplate.update("insert into " + SCHEMA + ".post (id, title, content, author_id, created_at) "
+                + "values (?, 'Legacy', ?, 'author', now())", id, Long.toString(oid));
+
+        // Act
+        migrate("3");
+
+        // Assert
+        try {
+            assertThat(jdbcTemplate.queryForObject("select content from " + SCHEMA + ".post where id = ?",
+                    String.class, id)).isEqualTo("Legacy content about Flyway");
+            assertThat(jdbcTemplate.queryForObject("select search_vector @@ to_tsquery('simple', 'flyway') from "
+                    + SCHEMA + ".post where id = ?", Boolean.class, id)).isTrue();
+        } finally {
+            jdbcTemplate.queryForObject("select lo_unlink(?::oid)", Integer.class, oid);
+        }
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+}
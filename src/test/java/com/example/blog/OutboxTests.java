@@ -0,0 +1,183 @@
+package com.example.blog;
+
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.CommentRepository;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.event.PostEvent;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.infrastructure.outbox.OutboxMessage;
+import com.example.blog.infrastructure.outbox.OutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The events under test are written in a transaction that is rolled back, so they are
+ * only visible to the relay called from the test, not to the background relays.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {"blog.outbox.max-attempts=2", "blog.outbox.retry-backoff=0s"})
+@DisplayName("Outbox Integration Tests")
+class OutboxTests {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private OutboxRelay relay;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    private final Queue<OutboxMessage> delivered = new ConcurrentLinkedQueue<>();
+    private final Set<UUID> poisonedPostIds = ConcurrentHashMap.newKeySet();
+    private final ApplicationListener<ApplicationEvent> listener = event -> {
+        if (event instanceof PayloadApplicationEvent<?> payload && payload.getPayload() instanceof OutboxMessage message) {
+            if (poisonedPostIds.contains(message.event().postId().id())) {
+                throw new IllegalStateException("cannot handle " + message.sequence());
+            }
+            delivered.add(message);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        context.addApplicationListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.removeApplicationListener(listener);
+    }
+
+    @Test
+    @DisplayName("Saving a post should store its events, which the relay delivers in order and removes")
+    void save_shouldStoreEventsForRelay() {
+        inRolledBackTransaction(() -> {
+            // Arrange
+            Post post = new Post("Outbox " + UUID.randomUUID(), "Content", new Author("author"));
+            post.publishPost();
+            Comment comment = new Comment("Comment", new Commenter("reader"));
+            post.addComment(comment);
+
+            // Act
+            postRepository.save(post);
+            long stored = countEvents(post.getId().id());
+            relay.relayBatch();
+
+            // Assert
+            assertThat(stored).isEqualTo(3);
+            assertThat(post.getEvents()).isEmpty();
+            assertThat(delivered(post.getId().id())).extracting(message -> message.event().type()).containsExactly(
+                    PostEvent.Type.POST_CREATED, PostEvent.Type.POST_PUBLISHED, PostEvent.Type.COMMENT_ADDED);
+            assertThat(delivered(post.getId().id()).get(2).event().commentId()).isEqualTo(comment.getId());
+            assertThat(countEvents(post.getId().id())).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Bulk moderation should store an event per moderated comment")
+    void approveAll_shouldStoreEvents() {
+        // Arrange
+        Post post = new Post("Outbox " + UUID.randomUUID(), "Content", new Author("author"));
+        post.publishPost();
+        Comment comment = new Comment("Comment", new Commenter("reader"));
+        post.addComment(comment);
+        postRepository.save(post);
+
+        inRolledBackTransaction(() -> {
+            // Act
+            commentRepository.approveAll(List.of(comment.getId()));
+
+            // Assert
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from outbox where event_type = 'COMMENT_APPROVED' and comment_id = ?",
+                    Long.class, comment.getId().id())).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("A rolled back save should leave no events behind")
+    void save_rolledBack_shouldStoreNothing() {
+        // Arrange
+        Post post = new Post("Outbox " + UUID.randomUUID(), "Content", new Author("author"));
+
+        // Act
+        inRolledBackTransaction(() -> postRepository.save(post));
+
+        // Assert
+        assertThat(countEvents(post.getId().id())).isZero();
+    }
+
+    @Test
+    @DisplayName("An event that keeps failing should not hold back the others and end in the dead letters")
+    void relayBatch_failingEvent_shouldBeDeadLetteredWithoutBlockingOthers() {
+        inRolledBackTransaction(() -> {
+            // Arrange
+            UUID poisoned = UUID.randomUUID();
+            UUID healthy = UUID.randomUUID();
+            poisonedPostIds.add(poisoned);
+            insertEvent(poisoned);
+            insertEvent(healthy);
+
+            // Act
+            relay.relayBatch();
+            long attemptsAfterFirst = jdbcTemplate.queryForObject(
+                    "select attempts from outbox where post_id = ?", Long.class, poisoned);
+            relay.relayBatch();
+
+            // Assert
+            assertThat(delivered(healthy)).hasSize(1);
+            assertThat(attemptsAfterFirst).isEqualTo(1);
+            assertThat(countEvents(poisoned)).isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                    "select attempts from outbox_dead_letter where post_id = ?", Long.class, poisoned)).isEqualTo(2);
+        });
+    }
+
+    private void inRolledBackTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> {
+            action.run();
+            status.setRollbackOnly();
+        });
+    }
+
+    private void insertEvent(UUID postId) {
+        jdbcTemplate.update("insert into outbox (event_type, post_id, occurred_at) values ('POST_CREATED', ?, now())",
+                postId);
+    }
+
+    private long countEvents(UUID postId) {
+        return jdbcTemplate.queryForObject("select count(*) from outbox where post_id = ?", Long.class, postId);
+    }
+
+    private List<OutboxMessage> delivered(UUID postId) {
+        return delivered.stream().filter(message -> message.event().postId().id().equals(postId)).toList();
+    }
+
+}
@@ -0,0 +1,434 @@
+package com.example.blog;
+
+import com.example.blog.application.query.PostQueryRepository;
+import com.example.blog.application.query.PostSearchResultDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.domain.Category;
+import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.jpa.entity.PostEntity;
+import com.example.blog.infrastructure.jpa.impl.PostAggregateLoader;
+import com.example.blog.infrastructure.jpa.repository.CategoryEntityRepository;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import com.example.blog.utils.Page;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Post Repository Integration Tests")
+class PostRepositoryTests {
+
+    private static final int POST_COUNT = 50;
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostQueryRepository postQueryRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostEntityRepository postEntityRepository;
+    @Autowired
+    private CategoryEntityRepository categoryEntityRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        postEntityRepository.deleteAll();
+        categoryEntityRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("findAll should load a page of posts with a constant number of statements regardless of page size")
+    void findAll_statementCount_isConstant() {
+        // Arrange
+        Category tech = new Category("Tech");
+        Category java = new Category("Java");
+        categoryRepository.save(tech);
+        categoryRepository.save(java);
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = new Post("Post " + i, "Content " + i, new Author("author"), tech, java);
+            post.publishPost();
+            post.addComment(new Comment("First comment " + i, new Commenter("reader-1")));
+            post.addComment(new Comment("Second comment " + i, new Commenter("reader-2")));
+            postRepository.save(post);
+        }
+
+        // Act
+        long statementsForSmallPage = countStatements(() -> {
+            Page<Post> page = postRepository.findAll(0, 10);
+            assertThat(page.content()).hasSize(10);
+            assertThat(page.content()).allSatisfy(post -> {
+                assertThat(post.getCategories()).hasSize(2);
+                assertThat(post.getComments()).hasSize(2);
+            });
+        });
+        long statementsForFullPage = countStatements(() -> {
+            Page<Post> page = postRepository.findAll(0, POST_COUNT);
+            assertThat(page.content()).hasSize(POST_COUNT);
+            assertThat(page.content()).allSatisfy(post -> {
+                assertThat(post.getCategories()).hasSize(2);
+                assertThat(post.getComments()).hasSize(2);
+            });
+        });
+
+        // Assert
+        // id page + count + categories + comments + comment counts
+        assertThat(statementsForFullPage).isEqualTo(5);
+        assertThat(statementsForSmallPage).isEqualTo(statementsForFullPage);
+    }
+
+    @Test
+    @DisplayName("findAll should keep posts in creation order")
+    void findAll_shouldKeepCreationOrder() {
+        // Arrange
+        Post first = new Post("First", "Content", new Author("author"));
+        Post second = new Post("Second", "Content", new Author("author"));
+        postRepository.save(first);
+        postRepository.save(second);
+
+        // Act
+        List<Post> posts = postRepository.findAll(0, 10).content();
+
+        // Assert
+        assertThat(posts).extracting(Post::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("findAllSummaries should return category names and comment counts without content")
+    void findAllSummaries_shouldAggregateCategoriesAndComments() {
+        // Arrange
+        Category tech = new Category("Tech");
+        Category java = new Category("Java");
+        categoryRepository.save(tech);
+        categoryRepository.save(java);
+
+        Post post = new Post("Summary", "Content", new Author("author"), tech, java);
+        post.publishPost();
+        post.addComment(new Comment("First comment", new Commenter("reader-1")));
+        post.addComment(new Comment("Second comment", new Commenter("reader-2")));
+        postRepository.save(post);
+
+        // Act
+        List<PostSummaryDTO> summaries = postQueryRepository.findAllSummaries(0, 10).content();
+
+        // Assert
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.id()).isEqualTo(post.getId().id());
+            assertThat(summary.categories()).containsExactly("Java", "Tech");
+            assertThat(summary.commentCount()).isEqualTo(2);
+            assertThat(summary.isPublished()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("save should give posts with a taken title the next free slug suffix")
+    void save_takenSlug_shouldAllocateSuffix() {
+        // Arrange
+        Post first = new Post("Same title", "Content", new Author("author"));
+        Post second = new Post("Same title", "Content", new Author("author"));
+        Post third = new Post("Same title!", "Content", new Author("author"));
+        postRepository.save(first);
+
+        // Act
+        postRepository.save(second);
+        postRepository.save(third);
+        postRepository.save(second);
+
+        // Assert
+        assertThat(first.getSlug()).isEqualTo("same-title");
+        assertThat(second.getSlug()).isEqualTo("same-title-2");
+        assertThat(third.getSlug()).isEqualTo("same-title-3");
+        assertThat(postEntityRepository.findAll()).extracting(PostEntity::getSlug)
+                .containsExactlyInAnyOrder("same-title", "same-title-2", "same-title-3");
+    }
+
+    @Test
+    @DisplayName("save should allocate the lowest free suffix when the taken ones have gaps")
+    void save_takenSlugWithGaps_shouldAllocateLowestFreeSuffix() {
+        // Arrange
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post("Gap title", "Content", new Author("author"));
+            postRepository.save(post);
+            posts.add(post);
+        }
+        postEntityRepository.deleteById(posts.get(3).getId().id());
+        postEntityRepository.deleteById(posts.get(1).getId().id());
+        // shares the prefix, but is no numbered variant
+        postRepository.save(new Post("Gap title 2b", "Content", new Author("author")));
+        Post next = new Post("Gap title", "Content", new Author("author"));
+
+        // Act
+        postRepository.save(next);
+
+        // Assert
+        assertThat(next.getSlug()).isEqualTo("gap-title-2");
+    }
+
+    @Test
+    @DisplayName("save should keep the slug of an edited post that already holds it")
+    void save_editedPost_shouldKeepOwnSlug() {
+        // Arrange
+        Post first = new Post("Same title", "Content", new Author("author"));
+        Post second = new Post("Same title", "Content", new Author("author"));
+        postRepository.save(first);
+        postRepository.save(second);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postRepository.findById(second.getId());
+            post.updatePost("Same title", "Edited content");
+            postRepository.save(post);
+        });
+
+        // Assert
+        assertThat(postEntityRepository.findById(second.getId().id())).get()
+                .extracting(PostEntity::getSlug).isEqualTo("same-title-2");
+    }
+
+    @Test
+    @DisplayName("search should match title and content and rank title matches first")
+    void search_shouldRankTitleMatchesFirst() {
+        // Arrange
+        Post contentMatch = new Post("Weekly notes", "A few words about postgres indexes", new Author("author"));
+        Post titleMatch = new Post("Postgres tuning", "Shared buffers and work_mem", new Author("author"));
+        Post noMatch = new Post("Unrelated", "Nothing to see here", new Author("author"));
+        postRepository.save(contentMatch);
+        postRepository.save(titleMatch);
+        postRepository.save(noMatch);
+
+        // Act
+        List<Post> posts = postRepository.search("postgres", 0, 10).content();
+
+        // Assert
+        assertThat(posts).extracting(Post::getId).containsExactly(titleMatch.getId(), contentMatch.getId());
+    }
+
+    @Test
+    @DisplayName("searchDeletedPosts should only match soft-deleted posts")
+    void searchDeletedPosts_shouldOnlyMatchDeletedPosts() {
+        // Arrange
+        Post live = new Post("Postgres live", "Content", new Author("author"));
+        Post deleted = new Post("Postgres deleted", "Content", new Author("author"));
+        deleted.softDelete();
+        postRepository.save(live);
+        postRepository.save(deleted);
+
+        // Act & Assert
+        assertThat(postRepository.search("postgres", 0, 10).content())
+                .extracting(Post::getId).containsExactly(live.getId());
+        assertThat(postRepository.searchDeletedPosts("postgres", 0, 10).content())
+                .extracting(Post::getId).containsExactly(deleted.getId());
+    }
+
+    @Test
+    @DisplayName("search on the read side should return highlighted title and content snippets")
+    void searchHits_shouldReturnHighlights() {
+        // Arrange
+        Post post = new Post("Postgres tuning", "Shared buffers matter for postgres", new Author("author"));
+        postRepository.save(post);
+
+        // Act
+        List<PostSearchResultDTO> hits = postQueryRepository.search("postgres", false, 0, 10).content();
+
+        // Assert
+        assertThat(hits).singleElement().satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo(post.getId().id());
+            assertThat(hit.rank()).isPositive();
+            assertThat(hit.titleHighlight()).isEqualTo("<b>Postgres</b> tuning");
+            assertThat(hit.snippet()).contains("<b>postgres</b>");
+        });
+    }
+
+    @Test
+    @DisplayName("save should flush a title-only edit as a single UPDATE")
+    void save_titleOnlyEdit_shouldIssueOneUpdate() {
+        // Arrange
+        Category tech = new Category("Tech");
+        Category java = new Category("Java");
+        categoryRepository.save(tech);
+        categoryRepository.save(java);
+        Post post = new Post("Title", "Content", new Author("author"), tech, java);
+        postRepository.save(post);
+
+        // Act
+        long statements = countSaveStatements(post.getId(), loaded -> loaded.updatePost("New title", loaded.getContent()));
+
+        // Assert
+        assertThat(statements).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(readOnly(() -> postRepository.findById(post.getId())).getTitle()).isEqualTo("New title");
+    }
+
+    @Test
+    @DisplayName("save should only insert and delete the category links that changed")
+    void save_categoryChange_shouldTouchOnlyChangedLinks() {
+        // Arrange
+        Category tech = new Category("Tech");
+        Category java = new Category("Java");
+        Category news = new Category("News");
+        categoryRepository.save(tech);
+        categoryRepository.save(java);
+        categoryRepository.save(news);
+        Post post = new Post("Title", "Content", new Author("author"), tech, java);
+        postRepository.save(post);
+
+        // Act
+        long statements = countSaveStatements(post.getId(), loaded -> {
+            loaded.removeCategory(java.getId());
+            loaded.addCategory(news);
+        });
+
+        // Assert
+        // one link deleted, one inserted, the post row untouched
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(readOnly(() -> postRepository.findById(post.getId())).getCategories())
+                .containsExactlyInAnyOrder(tech, news);
+    }
+
+    @Test
+    @DisplayName("findById should load the comment count and only the oldest page of comments")
+    void findById_shouldLoadFirstCommentPageOnly() {
+        // Arrange
+        Post post = publishedPostWithComments(25);
+
+        // Act
+        Post loaded = readOnly(() -> postRepository.findById(post.getId()));
+
+        // Assert
+        assertThat(loaded.getCommentCount()).isEqualTo(25);
+        assertThat(loaded.getComments()).hasSize(PostAggregateLoader.FIRST_COMMENT_PAGE_SIZE)
+                .extracting(Comment::getContent).startsWith("Comment 0", "Comment 1");
+    }
+
+    @Test
+    @DisplayName("save should insert a new comment without touching the existing ones")
+    void save_addComment_shouldOnlyInsertTheNewComment() {
+        // Arrange
+        Post post = publishedPostWithComments(25);
+
+        // Act
+        long statements = countSaveStatements(post.getId(),
+                loaded -> loaded.addComment(new Comment("New comment", new Commenter("reader"))));
+
+        // Assert
+        // lookup of the new id among unloaded comments + insert
+        assertThat(statements).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(readOnly(() -> postRepository.findById(post.getId())).getCommentCount()).isEqualTo(26);
+    }
+
+    @Test
+    @DisplayName("findById with a comment id should load that comment even past the first page")
+    void findByIdWithComment_shouldLoadTheComment() {
+        // Arrange
+        Post post = publishedPostWithComments(25);
+        CommentId last = post.getComments().get(24).getId();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Post loaded = postRepository.findById(post.getId(), last);
+            loaded.approveComment(last);
+            postRepository.save(loaded);
+        });
+
+        // Assert
+        Post reloaded = readOnly(() -> postRepository.findById(post.getId(), last));
+        assertThat(reloaded.getComments()).hasSize(PostAggregateLoader.FIRST_COMMENT_PAGE_SIZE + 1);
+        assertThat(reloaded.getComment(last).isApproved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("save should delete a removed comment and keep the unloaded ones")
+    void save_removeComment_shouldDeleteOnlyThatComment() {
+        // Arrange
+        Post post = publishedPostWithComments(25);
+        CommentId first = post.getComments().get(0).getId();
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            Post loaded = postRepository.findById(post.getId());
+            loaded.removeComment(first);
+            postRepository.save(loaded);
+        });
+
+        // Assert
+        Post reloaded = readOnly(() -> postRepository.findById(post.getId()));
+        assertThat(reloaded.getCommentCount()).isEqualTo(24);
+        assertThat(reloaded.getComment(first)).isNull();
+    }
+
+    private Post publishedPostWithComments(int comments) {
+        Post post = new Post("Busy post", "Content", new Author("author"));
+        post.publishPost();
+        for (int i = 0; i < comments; i++) {
+            post.addComment(new Comment("Comment " + i, new Commenter("reader-" + i)));
+        }
+        postRepository.save(post);
+        return post;
+    }
+
+    /**
+     * Loads the post, applies {@code edit} and saves it in one transaction, and returns
+     * the number of statements issued by the save and its flush.
+     */
+    private long countSaveStatements(PostId id, Consumer<Post> edit) {
+        return transactionTemplate.execute(status -> {
+            Post loaded = postRepository.findById(id);
+            edit.accept(loaded);
+            statistics.clear();
+            postRepository.save(loaded);
+            status.flush();
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> action.get());
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> action.run());
+        return statistics.getPrepareStatementCount();
+    }
+
+}
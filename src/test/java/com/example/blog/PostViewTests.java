@@ -0,0 +1,195 @@
+package com.example.blog;
+
+import com.example.blog.application.CategoryService;
+import com.example.blog.application.PostQueryService;
+import com.example.blog.application.PostService;
+import com.example.blog.application.command.CommentCreateCommand;
+import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.domain.Category;
+import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.Post;
+import com.example.blog.domain.PostRepository;
+import com.example.blog.domain.valueobject.Author;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.infrastructure.jpa.exception.ResourceNotFoundException;
+import com.example.blog.infrastructure.jpa.repository.PostEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@DisplayName("Post Read Model Integration Tests")
+class PostViewTests {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostQueryService postQueryService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostEntityRepository postEntityRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        postEntityRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("findById should read the post, its categories and first comments from the read model")
+    void findById_shouldReadView() {
+        // Arrange
+        Category category = new Category("View " + UUID.randomUUID());
+        categoryRepository.save(category);
+        Post post = new Post("View post", "Content", new Author("author"), category);
+        post.publishPost();
+        post.addComment(new Comment("First", new Commenter("reader")));
+        post.addComment(new Comment("Second", new Commenter("reader")));
+        postRepository.save(post);
+
+        // Act
+        PostDTO dto = postQueryService.findById(post.getId().id());
+
+        // Assert
+        assertThat(dto.title()).isEqualTo("View post");
+        assertThat(dto.content()).isEqualTo("Content");
+        assertThat(dto.categories()).containsExactly(new PostDTO.CategoryDTO(category.getId().id(), category.getName()));
+        assertThat(dto.commentCount()).isEqualTo(2);
+        assertThat(dto.comments()).extracting(PostDTO.CommentDTO::content).containsExactly("First", "Second");
+        assertThat(dto.isPublished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bulk moderation should update the approved comment count of the summaries")
+    void approveComments_shouldRefreshView() {
+        // Arrange
+        Post post = new Post("Moderated view", "Content", new Author("author"));
+        post.publishPost();
+        post.addComment(new Comment("First", new Commenter("reader")));
+        post.addComment(new Comment("Second", new Commenter("reader")));
+        postRepository.save(post);
+
+        // Act
+        postService.approveComments(List.of(post.getComments().get(0).getId().id()));
+
+        // Assert
+        assertThat(summary()).satisfies(summary -> {
+            assertThat(summary.commentCount()).isEqualTo(2);
+            assertThat(summary.approvedCommentCount()).isEqualTo(1);
+            assertThat(summary.lastCommentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Ingested comments should be counted by the read model once written")
+    void submitComment_shouldRefreshView() throws InterruptedException {
+        // Arrange
+        Post post = new Post("Ingested view", "Content", new Author("author"));
+        post.publishPost();
+        postRepository.save(post);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            postService.submitComment(post.getId().id(), new CommentCreateCommand("Comment " + i, "reader"));
+        }
+
+        // Assert
+        awaitTrue(() -> summary().commentCount() == 3);
+        assertThat(postQueryService.findById(post.getId().id()).comments()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Renaming a category should update the posts it is assigned to")
+    void editCategory_shouldRefreshView() {
+        // Arrange
+        Category category = new Category("Before " + UUID.randomUUID());
+        categoryRepository.save(category);
+        Post post = new Post("Categorized view", "Content", new Author("author"), category);
+        postRepository.save(post);
+        String newName = "After " + UUID.randomUUID();
+
+        // Act
+        categoryService.editCategory(category.getId().id(), newName);
+
+        // Assert
+        assertThat(summary().categories()).containsExactly(newName);
+        assertThat(postQueryService.findById(post.getId().id()).categories())
+                .extracting(PostDTO.CategoryDTO::name).containsExactly(newName);
+    }
+
+    @Test
+    @DisplayName("Deleted posts should disappear from the read model")
+    void deletePost_shouldHideFromView() {
+        // Arrange
+        Post post = new Post("Deleted view", "Content", new Author("author"));
+        postRepository.save(post);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> postService.deletePost(post.getId().id()));
+
+        // Assert
+        assertThat(postQueryService.findAllSummaries(0, 10).content()).isEmpty();
+        assertThatThrownBy(() -> postQueryService.findById(post.getId().id()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deleting a category used by trashed posts should fail and keep it in their rows")
+    void deleteCategory_usedByTrashedPosts_shouldFailAndKeepRows() {
+        // Arrange
+        Category category = new Category("Trashed " + UUID.randomUUID());
+        categoryRepository.save(category);
+        Post post = new Post("Trashed view", "Content", new Author("author"), category);
+        postRepository.save(post);
+        transactionTemplate.executeWithoutResult(status -> postService.deletePost(post.getId().id()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> categoryService.deleteCategory(category.getId().id()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        UUID[] categoryIds = jdbcTemplate.queryForObject("select category_ids from post_view where id = ?",
+                (rs, rowNum) -> (UUID[]) rs.getArray(1).getArray(), post.getId().id());
+        assertThat(categoryIds).containsExactly(category.getId().id());
+    }
+
+    private PostSummaryDTO summary() {
+        List<PostSummaryDTO> summaries = postQueryService.findAllSummaries(0, 10).content();
+        assertThat(summaries).hasSize(1);
+        return summaries.get(0);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+}
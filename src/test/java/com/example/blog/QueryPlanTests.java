@@ -0,0 +1,139 @@
+package com.example.blog;
+
+import com.example.blog.infrastructure.jpa.impl.SlugAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hot predicates can be answered from an index. Sequential scans are
+ * disabled for each statement, so the plan falls back to a seq scan only if no index fits.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@DisplayName("Query Plan Integration Tests")
+class QueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("comments of a batch of posts should be found through idx_comment_post_created_at_id")
+    void commentsByPost_shouldUseIndex() {
+        assertThat(explain("select * from comment where post_id in (?, ?)", UUID.randomUUID(), UUID.randomUUID()))
+                .contains("idx_comment_post_created_at_id");
+    }
+
+    @Test
+    @DisplayName("keyset pages of a post's comments should seek on idx_comment_post_created_at_id")
+    void commentsAfterCursor_shouldUseIndex() {
+        String plan = explain("""
+                select * from comment where post_id = ? and (created_at, id) > (now()::timestamp, ?)
+                order by created_at, id limit 20
+                """, UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(plan).contains("idx_comment_post_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("categories of a post should be found through the post_category primary key")
+    void categoriesByPost_shouldUsePrimaryKey() {
+        assertThat(explain("select category_id from post_category where post_id = ?", UUID.randomUUID()))
+                .contains("pk_post_category");
+    }
+
+    @Test
+    @DisplayName("posts of a category should be found through idx_post_category_category_id")
+    void postsByCategory_shouldUseIndex() {
+        assertThat(explain("select post_id from post_category where category_id = ?", UUID.randomUUID()))
+                .contains("idx_post_category_category_id");
+    }
+
+    @Test
+    @DisplayName("category name lookups should use uidx_category_name")
+    void categoryByName_shouldUseIndex() {
+        assertThat(explain("select id from category where name = ?", "Java"))
+                .contains("uidx_category_name");
+    }
+
+    @Test
+    @DisplayName("the trash listing should read soft-deleted posts in order from idx_post_deleted_deleted_at_id")
+    void deletedPosts_shouldUsePartialIndex() {
+        String plan = explain("""
+                select id from post where deleted_at is not null order by deleted_at, id limit 20
+                """);
+
+        assertThat(plan).contains("idx_post_deleted_deleted_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("keyset pages of live posts should seek on idx_post_live_created_at_id")
+    void livePostsAfterCursor_shouldUsePartialIndex() {
+        String plan = explain("""
+                select id from post where deleted_at is null and (created_at, id) > (now()::timestamp, ?)
+                order by created_at, id limit 20
+                """, UUID.randomUUID());
+
+        assertThat(plan).contains("idx_post_live_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("keyset pages of the moderation queue should seek on idx_comment_pending_created_at_id")
+    void pendingCommentsAfterCursor_shouldUsePartialIndex() {
+        String plan = explain("""
+                select c.* from comment c
+                join post p on p.id = c.post_id and p.published_at is not null and p.deleted_at is null
+                where c.approved_at is null and (c.created_at, c.id) > (now()::timestamp, ?)
+                order by c.created_at, c.id limit 20
+                """, UUID.randomUUID());
+
+        assertThat(plan).contains("idx_comment_pending_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("the summary listing should read post_view in order from idx_post_view_live_created_at_id")
+    void postViewSummaries_shouldUsePartialIndex() {
+        String plan = explain("""
+                select * from post_view where deleted_at is null order by created_at, id limit 20 offset 20
+                """);
+
+        assertThat(plan).contains("idx_post_view_live_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("the version probe of the public read should look the slug up in idx_post_view_published_slug")
+    void publishedVersionProbe_shouldUsePartialIndex() {
+        String plan = explain("""
+                select version, modified_at from post_view
+                where slug = ? and published_at is not null and deleted_at is null
+                """, "slug");
+
+        assertThat(plan).contains("idx_post_view_published_slug");
+    }
+
+    @Test
+    @DisplayName("slug allocation should read the taken slugs through idx_post_slug_prefix")
+    void takenSlugs_shouldUsePrefixIndex() {
+        String plan = explain(SlugAllocator.FIND_TAKEN_SLUGS, "title", "title-%", 7, UUID.randomUUID());
+
+        assertThat(plan).contains("idx_post_slug_prefix");
+    }
+
+    private String explain(String sql, Object... args) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+        });
+    }
+
+}
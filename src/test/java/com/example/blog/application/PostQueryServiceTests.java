@@ -1,10 +1,18 @@
 package com.example.blog.application;
 
+import com.example.blog.application.exception.InvalidCursorException;
 import com.example.blog.application.query.PostDTO;
+import com.example.blog.application.query.PostExportDTO;
+import com.example.blog.application.query.PostQueryRepository;
+import com.example.blog.application.query.PostSearchResultDTO;
+import com.example.blog.application.query.PostSummaryDTO;
+import com.example.blog.application.query.PublishedPostDTO;
 import com.example.blog.utils.mapper.PostMapper;
 import com.example.blog.domain.Post;
 import com.example.blog.domain.PostRepository;
 import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.utils.Cursor;
+import com.example.blog.utils.CursorPage;
 import com.example.blog.utils.Page;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +21,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,9 @@ class PostQueryServiceTests {
     @Mock
     private PostMapper postMapper;
 
+    @Mock
+    private PostQueryRepository postQueryRepository;
+
     @InjectMocks
     private PostQueryService postQueryService;
 
@@ -52,17 +68,31 @@ class PostQueryServiceTests {
     @DisplayName("Should find Post By Id Successfully")
     void findPostById_Success() {
         // Arrange
-        when(postRepository.findById(postId)).thenReturn(existingPost);
-        when(postMapper.toDto(existingPost)).thenReturn(existingPostDto);
+        when(postQueryRepository.findById(postUuid)).thenReturn(existingPostDto);
 
         // Act
         PostDTO result = postQueryService.findById(postUuid);
 
         // Assert
         assertEquals(existingPostDto, result);
-        verify(postRepository, times(1)).findById(postId);
-        verify(postMapper, times(1)).toDto(postCaptor.capture());
-        assertEquals(existingPost, postCaptor.getValue());
+        verify(postQueryRepository, times(1)).findById(postUuid);
+        verifyNoInteractions(postRepository, postMapper);
+    }
+
+    @Test
+    @DisplayName("Should find a published Post by slug for readers")
+    void findPublishedBySlug_Success() {
+        // Arrange
+        PublishedPostDTO publishedDto = Mockito.mock(PublishedPostDTO.class);
+        when(postRepository.findPublishedBySlug("my-post")).thenReturn(existingPost);
+        when(postMapper.toPublishedDto(existingPost)).thenReturn(publishedDto);
+
+        // Act
+        PublishedPostDTO result = postQueryService.findPublishedBySlug("my-post");
+
+        // Assert
+        assertEquals(publishedDto, result);
+        verify(postRepository, times(1)).findPublishedBySlug("my-post");
     }
 
     @Test
@@ -86,4 +116,101 @@ class PostQueryServiceTests {
         assertEquals(1, result.content().size());
     }
 
+    @Test
+    @DisplayName("Should find all Post summaries without loading aggregates")
+    void findAllSummaries_Success() {
+        // Arrange
+        int page = 0;
+        int size = 10;
+
+        PostSummaryDTO summary = Mockito.mock(PostSummaryDTO.class);
+        Page<PostSummaryDTO> summaryPage = Page.of(List.of(summary), page, size, 1);
+        when(postQueryRepository.findAllSummaries(page, size)).thenReturn(summaryPage);
+
+        // Act
+        Page<PostSummaryDTO> result = postQueryService.findAllSummaries(page, size);
+
+        // Assert
+        assertEquals(summaryPage, result);
+        verify(postQueryRepository, times(1)).findAllSummaries(page, size);
+        verifyNoInteractions(postRepository, postMapper);
+    }
+
+    @Test
+    @DisplayName("Should find the first keyset page when the cursor is blank")
+    void findAllByCursor_BlankCursor_ShouldReturnFirstPage() {
+        // Arrange
+        int size = 10;
+        CursorPage<Post> postPage = new CursorPage<>(List.of(existingPost), size, "next");
+        when(postRepository.findAll(null, size)).thenReturn(postPage);
+        when(postMapper.toDto(existingPost)).thenReturn(existingPostDto);
+
+        // Act
+        CursorPage<PostDTO> result = postQueryService.findAll("", size);
+
+        // Assert
+        assertEquals(List.of(existingPostDto), result.content());
+        assertEquals("next", result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should decode the cursor and find the next keyset page")
+    void findAllByCursor_ValidCursor_ShouldReturnNextPage() {
+        // Arrange
+        int size = 10;
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 4, 15, 11, 30, 0, 123456000), postUuid);
+        when(postRepository.findAll(cursor, size)).thenReturn(new CursorPage<>(List.of(), size, null));
+
+        // Act
+        CursorPage<PostDTO> result = postQueryService.findAll(cursor.encode(), size);
+
+        // Assert
+        verify(postRepository, times(1)).findAll(cursor, size);
+        assertEquals(0, result.content().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidCursorException when the cursor is malformed")
+    void findAllByCursor_MalformedCursor_ShouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> postQueryService.findAll("not-a-cursor", 10));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("Should search Posts through the read side")
+    void search_Success() {
+        // Arrange
+        PostSearchResultDTO hit = Mockito.mock(PostSearchResultDTO.class);
+        Page<PostSearchResultDTO> hitPage = Page.of(List.of(hit), 0, 10, 1);
+        when(postQueryRepository.search("postgres", false, 0, 10)).thenReturn(hitPage);
+
+        // Act
+        Page<PostSearchResultDTO> result = postQueryService.search("postgres", false, 0, 10);
+
+        // Assert
+        assertEquals(hitPage, result);
+        verifyNoInteractions(postRepository, postMapper);
+    }
+
+    @Test
+    @DisplayName("Should stream exported posts from the query repository")
+    void exportAll_Success() {
+        // Arrange
+        PostExportDTO exported = Mockito.mock(PostExportDTO.class);
+        doAnswer(invocation -> {
+            Consumer<PostExportDTO> consumer = invocation.getArgument(0);
+            consumer.accept(exported);
+            return null;
+        }).when(postQueryRepository).exportAll(any());
+        List<PostExportDTO> received = new ArrayList<>();
+
+        // Act
+        postQueryService.exportAll(received::add);
+
+        // Assert
+        assertEquals(List.of(exported), received);
+        verifyNoInteractions(postRepository, postMapper);
+    }
+
 }
@@ -1,15 +1,24 @@
 package com.example.blog.application;
 
+import com.example.blog.application.command.CommentCreateCommand;
+import com.example.blog.application.command.CommentModerationResult;
 import com.example.blog.application.command.PostCreateCommand;
 import com.example.blog.application.command.PostEditCommand;
+import com.example.blog.application.command.PostImportResult;
 import com.example.blog.application.exception.CategoryNotFoundException;
+import com.example.blog.application.exception.CommentNotFoundException;
 import com.example.blog.domain.Category;
 import com.example.blog.domain.CategoryRepository;
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.CommentRepository;
 import com.example.blog.domain.Post;
 import com.example.blog.domain.PostRepository;
 import com.example.blog.domain.exception.PostAlreadyPublishedException;
+import com.example.blog.domain.exception.PostNotPublishedException;
 import com.example.blog.domain.valueobject.Author;
 import com.example.blog.domain.valueobject.CategoryId;
+import com.example.blog.domain.valueobject.CommentId;
+import com.example.blog.domain.valueobject.Commenter;
 import com.example.blog.domain.valueobject.PostId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,10 +29,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +49,9 @@ class PostServiceTests {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
     @InjectMocks
     private PostService service;
 
@@ -271,4 +287,144 @@ class PostServiceTests {
         assertThatThrownBy(() -> service.deletePost(postIdUUID))
                 .isInstanceOf(PostAlreadyPublishedException.class);
     }
+
+    @Test
+    @DisplayName("Should import a batch with one category lookup and report rejected commands by position")
+    void importPosts_mixedBatch_reportsErrorsPerCommand() {
+        // Arrange
+        UUID unknownCategory = UUID.randomUUID();
+        List<PostCreateCommand> commands = List.of(
+                new PostCreateCommand("First", "Content", authorIdString, List.of(categoryUUID3)),
+                new PostCreateCommand("Second", "Content", authorIdString, List.of(unknownCategory)),
+                new PostCreateCommand("Third", "Content", authorIdString, List.of(categoryUUID3, categoryUUID4)),
+                new PostCreateCommand("Taken", "Content", authorIdString, null)
+        );
+        when(categoryRepository.findCategoryByIds(anyList())).thenReturn(List.of(category3, category4));
+        when(postRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            return posts.stream()
+                    .filter(post -> !post.getTitle().equals("Taken"))
+                    .map(Post::getId)
+                    .collect(Collectors.toSet());
+        });
+
+        // Act
+        PostImportResult result = service.importPosts(commands);
+
+        // Assert
+        verify(categoryRepository, times(1)).findCategoryByIds(categoryIdListCaptor.capture());
+        assertThat(categoryIdListCaptor.getValue())
+                .containsExactlyInAnyOrder(categoryId3, categoryId4, CategoryId.fromUUID(unknownCategory));
+        verify(postRepository, never()).save(any());
+
+        assertThat(result.importedIds()).hasSize(2);
+        assertThat(result.errors()).containsOnlyKeys(1, 3);
+        assertThat(result.errors().get(1)).contains(unknownCategory.toString());
+        assertThat(result.errors().get(3)).contains("taken");
+    }
+
+    @Test
+    @DisplayName("Should load only the target comment to approve it, and reject unknown comments")
+    void approveComment_loadsOnlyThatComment() {
+        // Arrange
+        existingPost.publishPost();
+        Comment comment = new Comment("Comment", new Commenter("reader"));
+        existingPost.addComment(comment);
+        when(postRepository.findById(postId, comment.getId())).thenReturn(existingPost);
+        CommentId unknown = new CommentId();
+        when(postRepository.findById(postId, unknown)).thenReturn(existingPost);
+
+        // Act
+        service.approveComment(postId.id(), comment.getId().id());
+
+        // Assert
+        verify(postRepository, never()).findById(postId);
+        verify(postRepository).save(existingPost);
+        assertThat(comment.isApproved()).isTrue();
+        assertThatThrownBy(() -> service.approveComment(postId.id(), unknown.id()))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should load only the target comment to remove it, and reject unknown comments")
+    void removeComment_loadsOnlyThatComment() {
+        // Arrange
+        existingPost.publishPost();
+        Comment comment = new Comment("Comment", new Commenter("reader"));
+        existingPost.addComment(comment);
+        when(postRepository.findById(postId, comment.getId())).thenReturn(existingPost);
+        CommentId unknown = new CommentId();
+        when(postRepository.findById(postId, unknown)).thenReturn(existingPost);
+
+        // Act
+        service.removeComment(postId.id(), comment.getId().id());
+
+        // Assert
+        verify(postRepository, never()).findById(postId);
+        verify(postRepository).save(existingPost);
+        assertThat(existingPost.getRemovedCommentIds()).containsExactly(comment.getId());
+        assertThatThrownBy(() -> service.removeComment(postId.id(), unknown.id()))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
+    @Test
+    void submitComment_queuesCommentWithoutLoadingPost() {
+        // Arrange
+        when(postRepository.isPublished(postId)).thenReturn(true);
+        ArgumentCaptor<Comment> commentCaptor = ArgumentCaptor.forClass(Comment.class);
+
+        // Act
+        UUID commentId = service.submitComment(postIdUUID, new CommentCreateCommand("Comment", "reader"));
+
+        // Assert
+        verify(commentRepository).append(eq(postId), commentCaptor.capture());
+        verify(postRepository, never()).findById(any());
+        verify(postRepository, never()).save(any());
+        assertThat(commentCaptor.getValue().getId().id()).isEqualTo(commentId);
+        assertThat(commentCaptor.getValue().getContent()).isEqualTo("Comment");
+    }
+
+    @Test
+    void submitComment_rejectsUnpublishedPost() {
+        when(postRepository.isPublished(postId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.submitComment(postIdUUID, new CommentCreateCommand("Comment", "reader")))
+                .isInstanceOf(PostNotPublishedException.class);
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void approveComments_reportsCommentsLeftUnchanged() {
+        // Arrange
+        CommentId approved = new CommentId();
+        CommentId onDraft = new CommentId();
+        CommentId unknown = new CommentId();
+        when(commentRepository.approveAll(Set.of(approved, onDraft, unknown))).thenReturn(Set.of(approved));
+        when(commentRepository.findOnUnpublishedPosts(Set.of(onDraft, unknown))).thenReturn(Set.of(onDraft));
+
+        // Act
+        CommentModerationResult result = service.approveComments(List.of(approved.id(), onDraft.id(), unknown.id()));
+
+        // Assert
+        verifyNoInteractions(postRepository);
+        assertThat(result.moderatedIds()).containsExactly(approved.id());
+        assertThat(result.errors()).containsOnlyKeys(onDraft.id(), unknown.id());
+        assertThat(result.errors().get(onDraft.id())).contains("not published");
+    }
+
+    @Test
+    void rejectComments_skipsLookupWhenAllRejected() {
+        // Arrange
+        CommentId pending = new CommentId();
+        when(commentRepository.rejectAll(Set.of(pending))).thenReturn(Set.of(pending));
+
+        // Act
+        CommentModerationResult result = service.rejectComments(List.of(pending.id()));
+
+        // Assert
+        assertThat(result.moderatedIds()).containsExactly(pending.id());
+        assertThat(result.errors()).isEmpty();
+        verify(commentRepository, never()).findOnUnpublishedPosts(any());
+    }
+
 }
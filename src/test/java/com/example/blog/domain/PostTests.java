@@ -1,11 +1,13 @@
 package com.example.blog.domain;
 
 // NOTE: Only import from domain package
+import com.example.blog.domain.event.PostEvent;
 import com.example.blog.domain.exception.*;
 import com.example.blog.domain.valueobject.Author;
 import com.example.blog.domain.valueobject.CategoryId;
 import com.example.blog.domain.valueobject.CommentId;
 import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.domain.valueobject.PostId;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -354,6 +357,25 @@ class PostTests {
         assertTrue(post.getComments().isEmpty());
     }
 
+    @Test
+    @DisplayName("Should keep the comment count of a partially loaded post and record removals")
+    void testCommentCount_PartiallyLoadedPost() {
+        // Arrange
+        Comment loaded = Comment.reconstitute(new CommentId(), "Loaded", new Commenter("User1"),
+                LocalDateTime.now(), LocalDateTime.now(), null);
+        Post post = Post.reconstitute(new PostId(), "Title", "title", "Content", author, null, List.of(loaded), 100,
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), null);
+
+        // Act
+        post.addComment(new Comment("New", new Commenter("User2")));
+        post.removeComment(loaded.getId());
+
+        // Assert
+        assertEquals(100, post.getCommentCount());
+        assertEquals(1, post.getComments().size());
+        assertEquals(List.of(loaded.getId()), post.getRemovedCommentIds());
+    }
+
     @Test
     @DisplayName("Should throw exception when removing null comment id")
     void testRemoveComment_NullComment_ShouldThrowException() {
@@ -498,4 +520,46 @@ class PostTests {
         assertDoesNotThrow(action);
     }
 
+    // ===== Events =====
+    @Test
+    @DisplayName("Should record an event for every state change, in order")
+    void testEvents_RecordedInOrder() {
+        // Arrange
+        Post post = new Post("Title", "Content", author);
+        post.updatePost("New title", "New content");
+        post.publishPost();
+        Comment comment = new Comment("Comment", new Commenter("reader"));
+
+        // Act
+        post.addComment(comment);
+        post.approveComment(comment.getId());
+        post.unPublishPost();
+
+        // Assert
+        assertThat(post.getEvents()).extracting(PostEvent::type).containsExactly(
+                PostEvent.Type.POST_CREATED,
+                PostEvent.Type.POST_UPDATED,
+                PostEvent.Type.POST_PUBLISHED,
+                PostEvent.Type.COMMENT_ADDED,
+                PostEvent.Type.COMMENT_APPROVED,
+                PostEvent.Type.POST_UNPUBLISHED);
+        assertThat(post.getEvents()).allMatch(event -> event.postId().equals(post.getId()));
+        assertEquals(comment.getId(), post.getEvents().get(3).commentId());
+    }
+
+    @Test
+    @DisplayName("Should not record events for reconstituted posts or failed changes")
+    void testEvents_NoneForReconstitutedPost() {
+        // Arrange
+        Post post = Post.reconstitute(new PostId(), "Title", "slug", "Content", author, List.of(), List.of(),
+                LocalDateTime.now(), LocalDateTime.now(), LocalDateTime.now(), null);
+
+        // Act
+        assertThrows(PostAlreadyPublishedException.class, post::softDelete);
+        post.approveComment(new CommentId());
+
+        // Assert
+        assertThat(post.getEvents()).isEmpty();
+    }
+
 }
@@ -0,0 +1,51 @@
+package com.example.blog.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Slug Normalization Tests")
+class SlugsTests {
+
+    @Test
+    @DisplayName("Should lower-case ASCII titles and collapse other characters into single dashes")
+    void normalize_shouldCollapseSeparators() {
+        assertThat(Slugs.normalize("Ten Tips for Faster Spring Boot Startup, Part 2: JPA & Hibernate!"))
+                .isEqualTo("ten-tips-for-faster-spring-boot-startup-part-2-jpa-hibernate");
+        assertThat(Slugs.normalize("  --Hello,   World!--  ")).isEqualTo("hello-world");
+    }
+
+    @Test
+    @DisplayName("Should transliterate Latin letters with diacritics, including Vietnamese")
+    void normalize_shouldTransliterateLatin() {
+        assertThat(Slugs.normalize("Xin chào Việt Nam, đường phố"))
+                .isEqualTo("xin-chao-viet-nam-duong-pho");
+        assertThat(Slugs.normalize("Größe Straße")).isEqualTo("grosse-strasse");
+        assertThat(Slugs.normalize("Æsir & Łódź")).isEqualTo("aesir-lodz");
+    }
+
+    @Test
+    @DisplayName("Should transliterate Cyrillic")
+    void normalize_shouldTransliterateCyrillic() {
+        assertThat(Slugs.normalize("Привет, мир")).isEqualTo("privet-mir");
+    }
+
+    @Test
+    @DisplayName("Should fall back to a fixed slug when nothing is left of the title")
+    void normalize_nothingLeft_shouldFallBack() {
+        assertThat(Slugs.normalize("!!!")).isEqualTo(Slugs.FALLBACK);
+        assertThat(Slugs.normalize("你好")).isEqualTo(Slugs.FALLBACK);
+    }
+
+    @Test
+    @DisplayName("Should cut long titles without leaving a trailing dash")
+    void normalize_longTitle_shouldBeCut() {
+        // Act
+        String slug = Slugs.normalize("word ".repeat(100));
+
+        // Assert
+        assertThat(slug).hasSizeLessThanOrEqualTo(Slugs.MAX_LENGTH).startsWith("word-word").doesNotEndWith("-");
+    }
+
+}
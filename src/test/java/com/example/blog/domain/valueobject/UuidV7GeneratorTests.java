@@ -0,0 +1,101 @@
+package com.example.blog.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UUIDv7 Generator Tests")
+class UuidV7GeneratorTests {
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Test
+    @DisplayName("Should produce version 7, IETF variant ids carrying the current time")
+    void generate_shouldSetVersionVariantAndTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID id = generator.generate();
+
+        // Assert
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7Generator.timestamp(id)).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing, also beyond 4096 ids per millisecond")
+    void generate_shouldBeMonotonic() {
+        // Act
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(generator.generate());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not hand out duplicates under contention")
+    void generate_concurrently_shouldBeUnique() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Id value objects should use the configured generator")
+    void ids_shouldUseConfiguredGenerator() {
+        // Arrange
+        IdGenerator previous = Ids.getGenerator();
+        UUID fixed = UUID.randomUUID();
+
+        // Act
+        Ids.setGenerator(() -> fixed);
+        try {
+            // Assert
+            assertThat(new PostId().id()).isEqualTo(fixed);
+            assertThat(new CommentId().id()).isEqualTo(fixed);
+            assertThat(new CategoryId().id()).isEqualTo(fixed);
+        } finally {
+            Ids.setGenerator(previous);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.example.blog.infrastructure.cache;
+
+import com.example.blog.infrastructure.jpa.event.PostSavedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Post Body Cache Tests")
+class PostBodyCacheTests {
+
+    private static final byte[] JSON = "{\"title\":\"foo\"}".repeat(20).getBytes(StandardCharsets.UTF_8);
+
+    private final UUID postId = UUID.randomUUID();
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostBodyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PostBodyCache(meterRegistry, DataSize.ofKilobytes(64));
+    }
+
+    @Test
+    @DisplayName("Should serialize once per version and serve both encodings from the cache")
+    void get_sameVersion_shouldSerializeOnce() throws IOException {
+        // Act
+        byte[] json = cache.get(postId, "1", false, this::serialize);
+        byte[] gzipped = cache.get(postId, "1", true, this::serialize);
+
+        // Assert
+        assertThat(json).isEqualTo(JSON);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(in.readAllBytes()).isEqualTo(JSON);
+        }
+        assertThat(serializations).hasValue(1);
+        assertThat(saved("serialization")).isEqualTo(JSON.length);
+        assertThat(saved("compression")).isEqualTo(JSON.length - gzipped.length);
+    }
+
+    @Test
+    @DisplayName("Should serialize again for another version or once the post is saved")
+    void get_changedPost_shouldSerializeAgain() {
+        // Act
+        cache.get(postId, "1", false, this::serialize);
+        cache.get(postId, "2", false, this::serialize);
+        cache.onPostSaved(new PostSavedEvent(postId, "foo", "foo", "bar", null));
+        cache.get(postId, "2", false, this::serialize);
+
+        // Assert
+        assertThat(serializations).hasValue(3);
+        assertThat(saved("serialization")).isZero();
+    }
+
+    private byte[] serialize() {
+        serializations.incrementAndGet();
+        return JSON;
+    }
+
+    private double saved(String by) {
+        return meterRegistry.get("blog.cache.post-body.saved").tag("by", by).functionCounter().count();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.blog.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Read-Through Cache Tests")
+class ReadThroughCacheTests {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ReadThroughCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReadThroughCache<>("test", 10, value -> 1, Duration.ofMinutes(1),
+                key -> loads.incrementAndGet(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should load a key once until it is invalidated")
+    void get_shouldLoadOnceUntilInvalidated() {
+        // Act
+        cache.get("key");
+        Integer cached = cache.get("key");
+        cache.invalidate("key");
+        Integer reloaded = cache.get("key");
+
+        // Assert
+        assertThat(cached).isEqualTo(1);
+        assertThat(reloaded).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache what a read-write transaction loads, but what a read-only one does")
+    void get_inReadWriteTransaction_shouldNotCache() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        cache.get("key");
+        cache.get("key");
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        cache.get("key");
+        cache.get("key");
+
+        // Assert
+        assertThat(loads).hasValue(3);
+    }
+
+}
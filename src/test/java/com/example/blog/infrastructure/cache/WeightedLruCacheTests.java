@@ -0,0 +1,121 @@
+package com.example.blog.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weighted LRU Cache Tests")
+class WeightedLruCacheTests {
+
+    private WeightedLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WeightedLruCache<>(10, String::length);
+    }
+
+    @Test
+    @DisplayName("Should load on miss and serve hits from the cache")
+    void get_shouldLoadOnceAndCountHitsAndMisses() {
+        // Act
+        String first = cache.get("a", key -> "aaa", true);
+        String second = cache.get("a", key -> "other", true);
+
+        // Assert
+        assertThat(first).isEqualTo("aaa");
+        assertThat(second).isEqualTo("aaa");
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not store values loaded with cacheable unset")
+    void get_shouldNotStoreWhenNotCacheable() {
+        // Act
+        cache.get("a", key -> "aaa", false);
+
+        // Assert
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries when over the weight budget")
+    void put_shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        // Act
+        cache.put("c", "cccc");
+
+        // Assert
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+        assertThat(cache.get("c")).isEqualTo("cccc");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should skip values heavier than the whole budget and support invalidation")
+    void put_shouldSkipOversizedValuesAndInvalidate() {
+        // Arrange
+        cache.put("a", "aaaa");
+
+        // Act
+        cache.put("huge", "x".repeat(11));
+        cache.invalidate("a");
+
+        // Assert
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not store a value whose key was invalidated while it loaded")
+    void get_invalidatedWhileLoading_shouldNotStore() {
+        // Act
+        String loaded = cache.get("a", key -> {
+            // a writer evicts the key while the reader is still loading the old value
+            cache.invalidate("a");
+            return "old";
+        }, true);
+
+        // Assert
+        assertThat(loaded).isEqualTo("old");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("a", key -> "new", true)).isEqualTo("new");
+        assertThat(cache.get("a")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("Should treat entries older than the max age as misses")
+    void get_expiredEntry_shouldMiss() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        WeightedLruCache<String, String> expiring =
+                new WeightedLruCache<>(10, String::length, Duration.ofSeconds(1), now::get);
+        expiring.put("a", "aaa");
+
+        // Act
+        now.addAndGet(Duration.ofMillis(900).toNanos());
+        String fresh = expiring.get("a");
+        now.addAndGet(Duration.ofMillis(200).toNanos());
+        String expired = expiring.get("a");
+
+        // Assert
+        assertThat(fresh).isEqualTo("aaa");
+        assertThat(expired).isNull();
+        assertThat(expiring.size()).isZero();
+        assertThat(expiring.weight()).isZero();
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.example.blog.infrastructure.ingest;
+
+import com.example.blog.domain.Comment;
+import com.example.blog.domain.valueobject.Commenter;
+import com.example.blog.domain.valueobject.PostId;
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Comment Ingestion Pipeline Tests")
+class CommentIngestionPipelineTests {
+
+    @Mock
+    private CommentBatchWriter writer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostId postId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postId = new PostId();
+    }
+
+    @Test
+    @DisplayName("Should reject comments once the queue is full instead of blocking")
+    void append_shouldRejectWhenQueueIsFull() {
+        // Arrange
+        CommentIngestionPipeline pipeline = pipeline(2, 10);
+        pipeline.append(postId, comment());
+        pipeline.append(postId, comment());
+
+        // Act & Assert
+        assertThatThrownBy(() -> pipeline.append(postId, comment()))
+                .isInstanceOf(CommentQueueFullException.class);
+        assertThat(pipeline.queueDepth()).isEqualTo(2);
+        assertThat(count("accepted")).isEqualTo(2);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(meterRegistry.get("blog.comments.ingest.queue.depth").gauge().value()).isEqualTo(2);
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Should write queued comments in batches and drain the queue on stop")
+    void stop_shouldWriteQueuedCommentsInBatches() {
+        // Arrange
+        CommentIngestionPipeline pipeline = pipeline(100, 3);
+        when(writer.insert(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            return batch.stream().map(PendingComment::postId).toList();
+        });
+        for (int i = 0; i < 7; i++) {
+            pipeline.append(postId, comment());
+        }
+
+        // Act
+        pipeline.start();
+        pipeline.stop();
+
+        // Assert
+        // 3 + 3 + 1; the batch list is reused, so the captured arguments are not meaningful
+        verify(writer, times(3)).insert(anyList());
+        assertThat(pipeline.queueDepth()).isZero();
+        assertThat(count("written")).isEqualTo(7);
+        assertThat(meterRegistry.get("blog.comments.ingest.flush").timer().count()).isEqualTo(3);
+        verify(eventPublisher, times(3)).publishEvent(new CommentsChangedEvent(Set.of(postId.id())));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed insert and count the batch as written once it succeeds")
+    void write_shouldRetryFailedInsert() {
+        // Arrange
+        CommentIngestionPipeline pipeline = pipeline(100, 2);
+        when(writer.insert(anyList()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> List.of(postId.id(), postId.id()));
+        for (int i = 0; i < 2; i++) {
+            pipeline.append(postId, comment());
+        }
+
+        // Act
+        pipeline.start();
+        pipeline.stop();
+
+        // Assert
+        verify(writer, times(2)).insert(anyList());
+        assertThat(count("written")).isEqualTo(2);
+        assertThat(count("dropped")).isZero();
+        assertThat(meterRegistry.get("blog.comments.ingest.flush").timer().count()).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(CommentsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should count a batch as dropped once every attempt failed, and keep writing")
+    void write_shouldDropFailedBatchAndContinue() {
+        // Arrange
+        CommentIngestionPipeline pipeline = pipeline(100, 2);
+        when(writer.insert(anyList()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> List.of(postId.id()));
+        for (int i = 0; i < 3; i++) {
+            pipeline.append(postId, comment());
+        }
+
+        // Act
+        pipeline.start();
+        pipeline.stop();
+
+        // Assert
+        verify(writer, times(4)).insert(anyList());
+        assertThat(count("dropped")).isEqualTo(2);
+        assertThat(count("written")).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(CommentsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should count a batch as written when a listener fails, and keep writing")
+    void write_listenerFailure_shouldNotDropBatch() {
+        // Arrange
+        CommentIngestionPipeline pipeline = pipeline(100, 2);
+        when(writer.insert(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            return batch.stream().map(PendingComment::postId).toList();
+        });
+        doThrow(new IllegalStateException("listener failed")).doNothing()
+                .when(eventPublisher).publishEvent(any(CommentsChangedEvent.class));
+        for (int i = 0; i < 3; i++) {
+            pipeline.append(postId, comment());
+        }
+
+        // Act
+        pipeline.start();
+        pipeline.stop();
+
+        // Assert
+        verify(writer, times(2)).insert(anyList());
+        assertThat(count("written")).isEqualTo(3);
+        assertThat(count("dropped")).isZero();
+        verify(eventPublisher, times(2)).publishEvent(any(CommentsChangedEvent.class));
+    }
+
+    private CommentIngestionPipeline pipeline(int capacity, int batchSize) {
+        CommentIngestionPipeline pipeline = new CommentIngestionPipeline(writer, eventPublisher,
+                capacity, batchSize, Duration.ofMillis(10), 3, Duration.ofMillis(1), true);
+        pipeline.bindTo(meterRegistry);
+        return pipeline;
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("blog.comments.ingest.comments").tag("outcome", outcome).functionCounter().count();
+    }
+
+    private static Comment comment() {
+        return new Comment("Comment", new Commenter("reader"));
+    }
+
+}
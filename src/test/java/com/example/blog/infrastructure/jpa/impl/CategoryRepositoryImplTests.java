@@ -0,0 +1,111 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.domain.Category;
+import com.example.blog.infrastructure.jpa.entity.CategoryEntity;
+import com.example.blog.infrastructure.jpa.repository.CategoryEntityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Category Repository Impl Tests")
+class CategoryRepositoryImplTests {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private CategoryEntityRepository entities;
+    private AtomicLong clock;
+    private CategoryRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        entities = mock(CategoryEntityRepository.class);
+        clock = new AtomicLong();
+        repository = new CategoryRepositoryImpl(entities, mock(ApplicationEventPublisher.class), MAX_AGE, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("an expired snapshot read in a read-write transaction should not be shared with other readers")
+    void findAll_expiredInReadWriteTransaction_shouldNotPublishSnapshot() {
+        // Arrange
+        CategoryEntity committed = entity("Java");
+        CategoryEntity uncommitted = entity("Uncommitted");
+        when(entities.findAll()).thenReturn(List.of(committed));
+        repository.findAll();
+
+        clock.set(MAX_AGE.toNanos() + 1);
+        when(entities.findAll()).thenReturn(List.of(committed, uncommitted));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        List<String> inTransaction = names(repository.findAll());
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        when(entities.findAll()).thenReturn(List.of(committed));
+        List<String> afterRollback = names(repository.findAll());
+
+        // Assert
+        assertThat(inTransaction).containsExactly("Java", "Uncommitted");
+        assertThat(afterRollback).containsExactly("Java");
+        assertThat(repository.existByName("Uncommitted")).isFalse();
+        verify(entities, times(3)).findAll();
+    }
+
+    @Test
+    @DisplayName("concurrent readers of an expired snapshot should wait for a single reload")
+    void findAll_concurrentReaders_shouldReloadOnce() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(entities.findAll()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(entity("Java"));
+        });
+
+        // Act
+        CompletableFuture<List<Category>> first = CompletableFuture.supplyAsync(repository::findAll);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<Category>> second = CompletableFuture.supplyAsync(repository::findAll);
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertThat(names(first.get(5, TimeUnit.SECONDS))).containsExactly("Java");
+        assertThat(names(second.get(5, TimeUnit.SECONDS))).containsExactly("Java");
+        verify(entities, times(1)).findAll();
+    }
+
+    private static CategoryEntity entity(String name) {
+        CategoryEntity entity = new CategoryEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setName(name);
+        return entity;
+    }
+
+    private static List<String> names(List<Category> categories) {
+        return categories.stream().map(Category::getName).toList();
+    }
+
+}
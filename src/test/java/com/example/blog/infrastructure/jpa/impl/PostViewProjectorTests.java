@@ -0,0 +1,73 @@
+package com.example.blog.infrastructure.jpa.impl;
+
+import com.example.blog.infrastructure.jpa.event.CommentsChangedEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Connection;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_MOCKS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Post View Projector Tests")
+class PostViewProjectorTests {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostViewProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        projector = new PostViewProjector(jdbcTemplate, mock(EntityManager.class), transactionManager);
+    }
+
+    @Test
+    @DisplayName("a refresh of its own that keeps failing should not reach the publisher and be retried later")
+    void onCommentsChanged_refreshFails_shouldKeepPostsForTheNextRefresh() throws Exception {
+        // Arrange
+        UUID failed = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(2);
+
+        // Act
+        assertThatNoException().isThrownBy(() -> projector.onCommentsChanged(new CommentsChangedEvent(Set.of(failed))));
+        projector.onCommentsChanged(new CommentsChangedEvent(Set.of(next)));
+
+        // Assert
+        ArgumentCaptor<PreparedStatementCreator> statements = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate, times(4)).update(statements.capture());
+        assertThat(refreshedIds(statements.getValue())).containsExactlyInAnyOrder(failed, next);
+    }
+
+    private static Object[] refreshedIds(PreparedStatementCreator statement) throws Exception {
+        Connection connection = mock(Connection.class, RETURNS_MOCKS);
+        ArgumentCaptor<Object[]> ids = ArgumentCaptor.forClass(Object[].class);
+        statement.createPreparedStatement(connection);
+        verify(connection).createArrayOf(eq("uuid"), ids.capture());
+        return ids.getValue();
+    }
+
+}
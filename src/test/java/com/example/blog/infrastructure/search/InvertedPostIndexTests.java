@@ -0,0 +1,109 @@
+package com.example.blog.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Inverted Post Index Tests")
+class InvertedPostIndexTests {
+
+    private InvertedPostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedPostIndex();
+    }
+
+    @Test
+    @DisplayName("Should match all query terms case-insensitively and rank title hits first")
+    void search_shouldRankTitleHitsFirst() {
+        // Arrange
+        UUID contentMatch = UUID.randomUUID();
+        UUID titleMatch = UUID.randomUUID();
+        UUID partialMatch = UUID.randomUUID();
+        index.put(contentMatch, "Weekly notes", "Tuning POSTGRES indexes", false);
+        index.put(titleMatch, "Postgres indexes", "Shared buffers", false);
+        index.put(partialMatch, "Postgres", "Nothing else", false);
+
+        // Act & Assert
+        assertThat(index.search("postgres indexes", false)).containsExactly(titleMatch, contentMatch);
+        assertThat(index.search("  ", false)).isEmpty();
+        assertThat(index.search("mysql", false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace the previous version of a re-indexed post")
+    void put_shouldReplacePreviousVersion() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        index.put(id, "Draft", "old words", false);
+
+        // Act
+        index.put(id, "Draft", "new words", false);
+
+        // Assert
+        assertThat(index.search("old", false)).isEmpty();
+        assertThat(index.search("new", false)).containsExactly(id);
+        assertThat(index.stats().posts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep live and soft-deleted posts apart")
+    void search_shouldFilterOnDeletedFlag() {
+        // Arrange
+        UUID live = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        index.put(live, "Postgres live", "", false);
+        index.put(deleted, "Postgres deleted", "", true);
+
+        // Act & Assert
+        assertThat(index.search("postgres", false)).containsExactly(live);
+        assertThat(index.search("postgres", true)).containsExactly(deleted);
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an already indexed post when adding if absent")
+    void addIfAbsent_shouldKeepExistingVersion() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        index.put(id, "Newer", "", false);
+
+        // Act
+        boolean added = index.addIfAbsent(id, "Older", "", false);
+
+        // Assert
+        assertThat(added).isFalse();
+        assertThat(index.search("newer", false)).containsExactly(id);
+        assertThat(index.search("older", false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should compact tombstoned versions and still find the current ones")
+    void put_shouldCompactTombstones() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // Act
+        for (int i = 0; i < 3000; i++) {
+            index.put(first, "First " + i, "shared", false);
+            index.put(second, "Second " + i, "shared", i % 2 == 1);
+        }
+        index.remove(first);
+
+        // Assert
+        InvertedPostIndex.Stats stats = index.stats();
+        assertThat(stats.posts()).isEqualTo(1);
+        // 6000 versions with 3 terms each were indexed; compaction drops the tombstoned ones
+        assertThat(stats.postings()).isLessThan(6000);
+        assertThat(stats.estimatedBytesPerPost()).isPositive();
+        assertThat(index.search("shared", true)).containsExactly(second);
+        assertThat(index.search("second 2999", true)).containsExactly(second);
+        assertThat(index.search("first", false)).isEmpty();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.example.blog.infrastructure.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Request Permit Filter Tests")
+class RequestPermitFilterTests {
+
+    private final RequestPermitFilter filter = new RequestPermitFilter(1, Duration.ofMillis(10));
+
+    @Test
+    @DisplayName("Should release the permit once the request completes")
+    void doFilter_shouldReleasePermit() throws Exception {
+        // Arrange
+        AtomicReference<Integer> availableDuringRequest = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                availableDuringRequest.set(filter.availablePermits());
+            }
+        });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/admin/posts"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(availableDuringRequest.get()).isZero();
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should turn requests away with 503 once no permit frees up in time")
+    void doFilter_shouldRejectWhenSaturated() throws Exception {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter.bindTo(meterRegistry);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        // the second request arrives while the first one still holds the only permit
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response)
+                    throws ServletException, IOException {
+                filter.doFilter(new MockHttpServletRequest("GET", "/admin/posts"), rejected, new MockFilterChain());
+            }
+        });
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/admin/posts"), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(rejected.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.get("blog.web.permits.rejected").functionCounter().count()).isEqualTo(1);
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the permit of an async request until it completes")
+    void doFilter_shouldHoldPermitForAsyncRequest() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/posts/export");
+        request.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse response) {
+                req.startAsync();
+            }
+        });
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        int availableWhileStreaming = filter.availablePermits();
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertThat(availableWhileStreaming).isZero();
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+}